@@ -4,7 +4,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
-import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.common.dto.AffectedRows;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -13,6 +15,7 @@ import java.time.format.DateTimeFormatter;
 
 @Slf4j
 @Aspect
+@Component
 public class AdminAccessLoggingAspect {
 
     @Pointcut("@annotation(org.example.expert.domain.common.annotation.LogAdminAccess)")
@@ -20,25 +23,29 @@ public class AdminAccessLoggingAspect {
 
     @Around("adminAccess()")
     public Object logAdminAccess(ProceedingJoinPoint joinPoint) throws Throwable {
-        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        if (attributes != null){
-            HttpServletRequest request = attributes.getRequest();
-
-            Long userId = (Long) request.getAttribute("userId");
-            String accessTime = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
-            String requestUrl = request.getRequestURI();
-
-            log.info("Admin Access - User ID : {}, Access Time : {}, Request URL: {}", userId, accessTime, requestUrl);
-        }
-
-        long startTime = System.currentTimeMillis();
+        Object result = null;
 
         try {
-            Object result = joinPoint.proceed();
+            result = joinPoint.proceed();
             return result;
         } finally {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.info("프로그램 실행 시간 : {}", executionTime);
+            // 일괄 작업도 요청당 한 번만 기록하고, 영향받은 행 수를 함께 남긴다
+            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+            if (attributes != null){
+                HttpServletRequest request = attributes.getRequest();
+
+                Long userId = (Long) request.getAttribute("userId");
+                String accessTime = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
+                String requestUrl = request.getRequestURI();
+
+                log.info("Admin Access - User ID : {}, Access Time : {}, Request URL: {}, Affected Rows: {}",
+                        userId, accessTime, requestUrl, affectedRows(result));
+            }
         }
     }
+
+    private Object affectedRows(Object result) {
+        Object body = result instanceof ResponseEntity<?> responseEntity ? responseEntity.getBody() : result;
+        return body instanceof AffectedRows affectedRows ? affectedRows.getAffectedRows() : "-";
+    }
 }
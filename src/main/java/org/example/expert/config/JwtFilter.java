@@ -11,6 +11,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserSecurityVersionRegistry;
 
 import java.io.IOException;
 
@@ -19,6 +20,7 @@ import java.io.IOException;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final UserSecurityVersionRegistry securityVersionRegistry;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -56,8 +58,16 @@ public class JwtFilter implements Filter {
             }
 
             UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            long userId = Long.parseLong(claims.getSubject());
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
+            // 역할/비밀번호 변경 이전에 발급된 토큰은 만료 전이라도 401을 반환합니다.
+            Number securityVersion = claims.get("securityVersion", Number.class);
+            if (!securityVersionRegistry.isCurrent(userId, securityVersion == null ? 0L : securityVersion.longValue())) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "권한 정보가 변경되었습니다. 다시 로그인해 주세요.");
+                return;
+            }
+
+            httpRequest.setAttribute("userId", userId);
             httpRequest.setAttribute("email", claims.get("email"));
             httpRequest.setAttribute("userRole", claims.get("userRole"));
 
@@ -1,9 +1,18 @@
 package org.example.expert.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // IN 절 파라미터 수를 2의 거듭제곱으로 맞춰 id 개수가 달라도 같은 SQL 문(실행 계획 캐시)을 재사용한다
+    @Bean
+    public HibernatePropertiesCustomizer inClauseParameterPadding() {
+        return properties -> properties.put(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, true);
+    }
 }
@@ -12,7 +12,12 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserEmailPrefixIndex;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -23,37 +28,53 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserEmailPrefixIndex userEmailPrefixIndex;
 
-    @Transactional
+    // 해싱 중에는 커넥션을 잡지 않도록 트랜잭션 밖에서 실행하고, insert 만 짧은 트랜잭션으로 처리한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
         String email = signupRequest.getEmail();
         if (email == null || email.trim().isEmpty())
             throw new InvalidRequestException("이메일은 필수 입력 항목입니다.");
 
-        if (userRepository.existsByEmail(email))
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
-
         String password = signupRequest.getPassword();
         if (password == null || password.trim().isEmpty())
             throw new InvalidRequestException("비밀번호는 필수 입력 항목입니다.");
 
-        String encodedPassword = passwordEncoder.encode(password);
-
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
+        String encodedPassword = passwordEncoder.encode(password);
+
         User newUser = new User(
                 signupRequest.getEmail(),
                 encodedPassword,
                 userRole
         );
 
-        User savedUser = userRepository.save(newUser);
+        // 중복 이메일은 사전 조회 대신 email 유니크 제약으로 판단해 동시 가입도 한 건만 성공한다
+        User savedUser;
+        try {
+            savedUser = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // users 의 유니크 제약은 email, normalized_email 뿐이다. NOT NULL/길이 등 다른 위반은 그대로 전파한다
+            if (!isUniqueViolation(e)) {
+                throw e;
+            }
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+        userEmailPrefixIndex.add(savedUser.getId(), savedUser.getEmail());
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getSecurityVersion());
 
         return new SignupResponse(bearerToken);
     }
 
+    private boolean isUniqueViolation(DataIntegrityViolationException e) {
+        return e instanceof DuplicateKeyException
+                || (e.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE);
+    }
+
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -63,7 +84,7 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getSecurityVersion());
 
         return new SigninResponse(bearerToken);
     }
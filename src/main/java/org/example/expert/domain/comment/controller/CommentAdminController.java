@@ -1,11 +1,16 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
 import org.example.expert.domain.common.annotation.LogAdminAccess;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,4 +22,26 @@ public class CommentAdminController {
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    @LogAdminAccess
+    @PostMapping("/admin/comments/bulk-delete")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteComments(@Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest) {
+        return ResponseEntity.ok(commentAdminService.deleteComments(commentBulkDeleteRequest.getCommentIds()));
+    }
+
+    @LogAdminAccess
+    @DeleteMapping("/admin/users/{userId}/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteCommentsByUser(@PathVariable long userId) {
+        return ResponseEntity.ok(commentAdminService.deleteCommentsByUser(userId));
+    }
+
+    @LogAdminAccess
+    @DeleteMapping("/admin/todos/{todoId}/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteCommentsByTodo(
+            @PathVariable long todoId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return ResponseEntity.ok(commentAdminService.deleteCommentsByTodo(todoId, from, to));
+    }
 }
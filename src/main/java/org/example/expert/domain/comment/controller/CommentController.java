@@ -5,31 +5,74 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentThreadResponse;
+import org.example.expert.domain.comment.service.CommentBatchWriter;
 import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentStreamService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
+    private final CommentBatchWriter commentBatchWriter;
 
     @PostMapping("/todos/{todoId}/comments")
-    public ResponseEntity<CommentSaveResponse> saveComment(
+    public CompletableFuture<ResponseEntity<CommentSaveResponse>> saveComment(
             @Auth AuthUser authUser,
             @PathVariable long todoId,
             @Valid @RequestBody CommentSaveRequest commentSaveRequest
     ) {
-        return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
+        if (commentBatchWriter.isEnabled()) {
+            // 그룹 커밋 모드: 요청이 포함된 배치가 커밋되면 응답한다
+            return commentBatchWriter.submit(authUser, todoId, commentSaveRequest).thenApply(ResponseEntity::ok);
+        }
+        return CompletableFuture.completedFuture(ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest)));
+    }
+
+    @PostMapping("/todos/{todoId}/comments/{commentId}/replies")
+    public ResponseEntity<CommentSaveResponse> saveReply(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @PathVariable long commentId,
+            @Valid @RequestBody CommentSaveRequest commentSaveRequest
+    ) {
+        return ResponseEntity.ok(commentService.saveReply(authUser, todoId, commentId, commentSaveRequest));
+    }
+
+    @GetMapping("/todos/{todoId}/comments/{commentId}/thread")
+    public ResponseEntity<CommentThreadResponse> getThread(
+            @PathVariable long todoId,
+            @PathVariable long commentId,
+            @RequestParam(defaultValue = "20") int depth
+    ) {
+        return ResponseEntity.ok(commentService.getThread(todoId, commentId, depth));
     }
 
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<CursorResponse<CommentResponse>> getComments(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getComments(todoId, cursor, size));
+    }
+
+    @GetMapping(value = "/todos/{todoId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(
+            @PathVariable long todoId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return commentStreamService.subscribe(todoId, lastEventId);
     }
 }
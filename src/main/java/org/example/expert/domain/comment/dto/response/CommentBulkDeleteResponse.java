@@ -0,0 +1,19 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.common.dto.AffectedRows;
+
+@Getter
+public class CommentBulkDeleteResponse implements AffectedRows {
+
+    private final long deletedCount;
+
+    public CommentBulkDeleteResponse(long deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+
+    @Override
+    public long getAffectedRows() {
+        return deletedCount;
+    }
+}
@@ -6,13 +6,26 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 일정별 댓글 커서 페이지네이션용 인덱스
+        @Index(name = "idx_comments_todo_created_at_id", columnList = "todo_id, created_at, id"),
+        // 스레드(서브트리) 조회용 인덱스. path 접두사 범위 검색으로 한 번에 읽는다
+        @Index(name = "idx_comments_todo_path", columnList = "todo_id, path"),
+        @Index(name = "idx_comments_deleted_at", columnList = "deleted_at")
+})
+@SQLRestriction("deleted_at IS NULL") // 삭제 표시된 댓글은 모든 조회에서 제외
 public class Comment extends Timestamped {
 
+    public static final int MAX_DEPTH = 20;
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String contents;
@@ -25,13 +38,56 @@ public class Comment extends Timestamped {
     @JoinColumn(name = "todo_id", nullable = false)
     private Todo todo;
 
+    // 답글인 경우 부모 댓글 id. 부모가 purge 되어도 답글이 남을 수 있도록 FK 는 두지 않는다
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 루트부터 자신까지의 id 를 고정 폭으로 이어 붙인 경로 (예: 000000000012/000000000034/)
+    @Column(length = 512)
+    private String path;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int depth = 0;
+
+    // 삭제 표시 시각 (실제 삭제는 TombstonePurgeJob 이 비혼잡 시간대에 수행)
+    private LocalDateTime deletedAt;
+
     public Comment(String contents, User user, Todo todo) {
         this.contents = contents;
         this.user = user;
         this.todo = todo;
     }
 
+    public Comment(String contents, User user, Todo todo, Comment parent) {
+        this(contents, user, todo);
+        this.parentId = parent.getId();
+        this.depth = parent.getDepth() + 1;
+    }
+
+    // id 가 발급된 뒤에 호출해 자신의 경로를 확정한다
+    public void assignPath(String parentPath) {
+        this.path = (parentPath == null ? "" : parentPath) + pathSegment(id);
+    }
+
+    public String getThreadPath() {
+        return path != null ? path : pathSegment(id);
+    }
+
+    public static String pathSegment(long id) {
+        return String.format("%012d/", id);
+    }
+
+    // path 로 시작하는 모든 경로보다 큰 가장 작은 값 (마지막 '/' 를 다음 문자 '0' 으로 바꾼다)
+    public static String pathUpperBound(String path) {
+        return path.substring(0, path.length() - 1) + (char) ('/' + 1);
+    }
+
     public void update(String contents) {
         this.contents = contents;
     }
+
+    public void softDelete() {
+        this.deletedAt = LocalDateTime.now();
+    }
 }
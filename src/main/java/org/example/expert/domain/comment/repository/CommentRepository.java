@@ -1,14 +1,112 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 전체 목록 조회는 항상 limit 을 명시해야 한다
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId, Limit limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findByTodoIdWithUserAfter(@Param("todoId") Long todoId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Limit limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id = :id AND c.todo.id = :todoId")
+    Optional<Comment> findWithUserByIdAndTodoId(@Param("id") Long id, @Param("todoId") Long todoId);
+
+    // 루트 댓글의 하위 답글을 (todo_id, path) 인덱스의 범위 조회로 인덱스 순서대로 읽는다
+    // path 순서 = 부모가 자식보다 먼저, 형제는 작성 순
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId AND c.path > :rootPath AND c.path < :rootPathEnd " +
+            "AND c.depth <= :maxDepth " +
+            "ORDER BY c.path")
+    List<Comment> findDescendants(@Param("todoId") Long todoId,
+                                  @Param("rootPath") String rootPath,
+                                  @Param("rootPathEnd") String rootPathEnd,
+                                  @Param("maxDepth") int maxDepth);
+
+    // SSE 재연결 시 Last-Event-ID 이후 댓글 재전송용
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId AND c.id > :lastId " +
+            "ORDER BY c.id")
+    List<Comment> findByTodoIdWithUserAfterId(@Param("todoId") Long todoId,
+                                              @Param("lastId") Long lastId,
+                                              Limit limit);
+
+    // 스레드 기능 이전에 작성되어 path 가 없는 루트 댓글 (삭제 표시된 행 포함)
+    @Query(value = "SELECT id FROM comments WHERE path IS NULL AND parent_id IS NULL AND id > :lastId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findRootIdsWithoutPathAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Limit limit);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId ORDER BY c.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT c.id FROM Comment c " +
+            "WHERE c.todo.id = :todoId AND c.createdAt BETWEEN :from AND :to " +
+            "ORDER BY c.createdAt, c.id")
+    List<Long> findIdsByTodoIdAndCreatedAtBetween(@Param("todoId") Long todoId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to,
+                                                  Limit limit);
+
+    @Query("SELECT DISTINCT c.todo.id FROM Comment c WHERE c.id IN :ids")
+    List<Long> findTodoIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt WHERE c.todo.id = :todoId AND c.deletedAt IS NULL")
+    int softDeleteByTodoId(@Param("todoId") Long todoId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt WHERE c.id IN :ids AND c.deletedAt IS NULL")
+    int softDeleteByIds(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 삭제 표시된 행은 @SQLRestriction 에 걸리므로 purge 는 native 쿼리로 처리
+    @Query(value = "SELECT id FROM comments WHERE deleted_at IS NOT NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findTombstonedIds(@Param("limit") int limit);
+
+    // 댓글 삭제 작업이 중간에 실패했거나 인스턴스가 재시작되어 삭제 표시된 일정에 남은 댓글
+    @Query(value = "SELECT id FROM comments " +
+            "WHERE todo_id IN (SELECT id FROM todos WHERE deleted_at IS NOT NULL) " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsOfTombstonedTodos(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE id IN (:ids)", nativeQuery = true)
+    int purgeByIds(@Param("ids") Collection<Long> ids);
+
+    // 탈퇴 처리용: 소유 일정에 달린 댓글을 작성자와 관계없이 id 구간 단위로 지운다
+    @Query(value = "SELECT c.id FROM comments c JOIN todos t ON t.id = c.todo_id " +
+            "WHERE t.user_id = :userId AND c.id > :lastId ORDER BY c.id LIMIT :limit", nativeQuery = true)
+    List<Long> findAllIdsOnTodosOwnedByAfter(@Param("userId") Long userId, @Param("lastId") Long lastId, @Param("limit") int limit);
+
+    // 탈퇴 처리용: 삭제 표시된 댓글까지 포함해 실제로 지운다
+    @Query(value = "SELECT id FROM comments WHERE user_id = :userId AND id > :lastId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findAllIdsByUserIdAfter(@Param("userId") Long userId, @Param("lastId") Long lastId, @Param("limit") int limit);
+
+    @Query(value = "SELECT DISTINCT todo_id FROM comments WHERE id IN (:ids)", nativeQuery = true)
+    List<Long> findAllTodoIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE todo_id IN (:todoIds)", nativeQuery = true)
+    int purgeByTodoIds(@Param("todoIds") Collection<Long> todoIds);
 }
@@ -1,18 +1,89 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${comment.admin.bulk-chunk-size:1000}")
+    private int chunkSize;
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.findById(commentId).ifPresent(comment -> {
+            comment.softDelete();
+            todoRepository.addCommentCount(comment.getTodo().getId(), -1);
+        });
+    }
+
+    public CommentBulkDeleteResponse deleteComments(List<Long> commentIds) {
+        List<Long> distinctIds = commentIds.stream().distinct().toList();
+        long deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            deleted += deleteChunk(chunk);
+        }
+        return new CommentBulkDeleteResponse(deleted);
+    }
+
+    public CommentBulkDeleteResponse deleteCommentsByUser(long userId) {
+        return deleteInChunks(() -> commentRepository.findIdsByUserId(userId, Limit.of(chunkSize)));
+    }
+
+    public CommentBulkDeleteResponse deleteCommentsByTodo(long todoId, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("조회 시작 시각이 종료 시각보다 늦습니다.");
+        }
+        LocalDateTime start = from == null ? LocalDateTime.of(1970, 1, 1, 0, 0) : from;
+        LocalDateTime end = to == null ? LocalDateTime.now() : to;
+        return deleteInChunks(() -> commentRepository.findIdsByTodoIdAndCreatedAtBetween(todoId, start, end, Limit.of(chunkSize)));
+    }
+
+    // 삭제 표시된 댓글은 조회에서 빠지므로 남은 대상이 없을 때까지 앞에서부터 반복한다
+    private CommentBulkDeleteResponse deleteInChunks(Supplier<List<Long>> nextChunk) {
+        long deleted = 0;
+        while (true) {
+            List<Long> chunk = nextChunk.get();
+            if (chunk.isEmpty()) {
+                break;
+            }
+            int count = deleteChunk(chunk);
+            if (count == 0) {
+                break;
+            }
+            deleted += count;
+        }
+        return new CommentBulkDeleteResponse(deleted);
+    }
+
+    // chunk 마다 별도 트랜잭션으로 커밋해 한 번에 잠기는 행 수를 제한한다
+    private int deleteChunk(List<Long> commentIds) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> todoIds = commentRepository.findTodoIdsByIds(commentIds);
+            int count = commentRepository.softDeleteByIds(commentIds, LocalDateTime.now());
+            if (count > 0) {
+                todoRepository.recountComments(todoIds);
+            }
+            return count;
+        });
+        return deleted == null ? 0 : deleted;
     }
 }
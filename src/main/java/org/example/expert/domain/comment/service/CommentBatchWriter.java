@@ -0,0 +1,251 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 저장 그룹 커밋(write-behind) 모드.
+ * 검증을 마친 댓글을 큐에 모았다가 짧은 시간 창 또는 배치 크기 단위로 한 트랜잭션에 multi-row insert 한다.
+ * 각 요청의 응답은 자신이 포함된 배치가 커밋된 뒤 완료된다. 기본값은 비활성화.
+ */
+@Slf4j
+@Service
+public class CommentBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO comments (contents, user_id, todo_id, depth, created_at, modified_at) VALUES (?, ?, ?, 0, ?, ?)";
+    private static final String UPDATE_PATH_SQL = "UPDATE comments SET path = ? WHERE id = ?";
+
+    private final CommentService commentService;
+    private final TodoRepository todoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${comment.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${comment.write-behind.batch-size:100}")
+    private int batchSize;
+
+    @Value("${comment.write-behind.window-millis:5}")
+    private long windowMillis;
+
+    @Value("${comment.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private BlockingQueue<PendingComment> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    public CommentBatchWriter(
+            CommentService commentService,
+            TodoRepository todoRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.commentService = commentService;
+        this.todoRepository = todoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "comment-batch-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        // 남은 댓글을 모두 반영한 뒤 종료한다
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public CompletableFuture<CommentSaveResponse> submit(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
+        // 권한 검증은 요청 스레드에서 끝내 잘못된 요청이 배치에 섞이지 않도록 한다
+        commentService.validateCommentPermission(todoId, authUser.getId());
+
+        PendingComment pending = new PendingComment(authUser, todoId, commentSaveRequest.getContents());
+        if (!queue.offer(pending)) {
+            throw new ServerException("댓글 저장 대기열이 가득 찼습니다.");
+        }
+        return pending.future;
+    }
+
+    private void runFlushLoop() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 댓글 이후 시간 창 동안 배치 크기까지 모은다
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMillis);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청: 남은 댓글은 시간 창 없이 바로 반영한다
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+    }
+
+    void flush(List<PendingComment> batch) {
+        try {
+            complete(batch, transactionTemplate.execute(status -> insertBatch(batch)));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("댓글 저장 실패: todoId={}", batch.get(0).todoId, e);
+                batch.get(0).future.completeExceptionally(e);
+                return;
+            }
+            // 한 행의 오류(검증 이후 삭제된 일정 등)로 나머지 요청까지 실패하지 않도록 한 건씩 다시 저장한다
+            log.warn("댓글 배치 저장 실패, 한 건씩 다시 저장합니다: size={}", batch.size(), e);
+            for (PendingComment pending : batch) {
+                flush(List.of(pending));
+            }
+        }
+    }
+
+    private void complete(List<PendingComment> batch, List<CommentSaveResponse> responses) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future.complete(responses.get(i));
+        }
+    }
+
+    private List<CommentSaveResponse> insertBatch(List<PendingComment> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingComment pending = batch.get(i);
+                        ps.setString(1, pending.contents);
+                        ps.setLong(2, pending.authUser.getId());
+                        ps.setLong(3, pending.todoId);
+                        ps.setTimestamp(4, now);
+                        ps.setTimestamp(5, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+
+        // 루트 댓글의 스레드 경로는 id 발급 이후에 정해진다
+        jdbcTemplate.batchUpdate(UPDATE_PATH_SQL, ids, ids.size(), (ps, id) -> {
+            ps.setString(1, Comment.pathSegment(id));
+            ps.setLong(2, id);
+        });
+
+        Map<Long, Long> countsByTodo = new LinkedHashMap<>();
+        List<CommentSaveResponse> responses = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingComment pending = batch.get(i);
+            Long id = ids.get(i);
+            UserResponse userResponse = new UserResponse(pending.authUser.getId(), pending.authUser.getEmail());
+
+            countsByTodo.merge(pending.todoId, 1L, Long::sum);
+            // 배치 커밋 이후 SSE 구독자에게 전달된다
+            eventPublisher.publishEvent(new CommentSavedEvent(
+                    pending.todoId,
+                    new CommentResponse(id, pending.contents, userResponse)
+            ));
+            responses.add(new CommentSaveResponse(id, pending.contents, userResponse));
+        }
+
+        // 일정별 댓글 수는 배치당 한 번만 갱신한다
+        countsByTodo.forEach(todoRepository::addCommentCount);
+        return responses;
+    }
+
+    static class PendingComment {
+
+        private final AuthUser authUser;
+        private final long todoId;
+        private final String contents;
+        private final CompletableFuture<CommentSaveResponse> future = new CompletableFuture<>();
+
+        PendingComment(AuthUser authUser, long todoId, String contents) {
+            this.authUser = authUser;
+            this.todoId = todoId;
+            this.contents = contents;
+        }
+    }
+}
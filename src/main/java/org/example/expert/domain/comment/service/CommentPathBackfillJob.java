@@ -0,0 +1,97 @@
+package org.example.expert.domain.comment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 스레드 기능 이전에 작성되어 path 가 비어 있는 댓글을 id 순서의 작은 chunk 로 채운다.
+ * 당시 댓글은 모두 루트 댓글이므로 경로는 자신의 id 하나뿐이다.
+ * chunk 마다 짧은 트랜잭션으로 커밋하고 쉬어 가므로 comments 테이블을 오래 잠그지 않는다.
+ * 대상 조건을 받쳐 주는 인덱스가 없어 매번 테이블 전체를 훑으므로, 배포 후 한 인스턴스에서만
+ * comment.path-backfill.enabled=true 로 한 번 실행하는 마이그레이션으로 쓴다.
+ */
+@Slf4j
+@Component
+public class CommentPathBackfillJob {
+
+    private static final String UPDATE_PATH_SQL = "UPDATE comments SET path = ? WHERE id = ? AND path IS NULL";
+
+    private final CommentRepository commentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+
+    @Value("${comment.path-backfill.enabled:false}")
+    private boolean enabled;
+    @Value("${comment.path-backfill.chunk-size:1000}")
+    private int chunkSize;
+    @Value("${comment.path-backfill.throttle-millis:100}")
+    private long throttleMillis;
+
+    public CommentPathBackfillJob(
+            CommentRepository commentRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor
+    ) {
+        this.commentRepository = commentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            taskExecutor.execute(this::backfill);
+        }
+    }
+
+    public long backfill() {
+        long lastId = 0L;
+        long updated = 0;
+
+        while (true) {
+            List<Long> ids = commentRepository.findRootIdsWithoutPathAfter(lastId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPDATE_PATH_SQL, ids, ids.size(), (ps, id) -> {
+                        ps.setString(1, Comment.pathSegment(id));
+                        ps.setLong(2, id);
+                    }));
+            updated += ids.size();
+
+            lastId = ids.get(ids.size() - 1);
+            if (!throttle()) {
+                break;
+            }
+        }
+
+        log.info("댓글 경로 백필 완료 - 갱신 : {}", updated);
+        return updated;
+    }
+
+    private boolean throttle() {
+        try {
+            Thread.sleep(throttleMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -4,19 +4,28 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentThreadResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -25,19 +34,18 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final TodoMembershipIndex todoMembershipIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
-        
-        // 요구사항 : 할일의 담당자가 아니면 댓글을 달 수 없도록 예외 처리
-        boolean isManager = todo.getManagers().stream()
-                .anyMatch(manager -> manager.getUser().getId().equals(user.getId()));
 
-        if (!isManager)
-            throw new InvalidRequestException("관리자만 댓글을 추가할 수 있습니다.");
+        validateCommentPermission(todoId, user.getId());
+
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -45,20 +53,129 @@ public class CommentService {
                 todo
         );
 
+        return persist(user, todoId, newComment, null);
+    }
+
+    @Transactional
+    public CommentSaveResponse saveReply(AuthUser authUser, long todoId, long commentId, CommentSaveRequest commentSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+
+        validateCommentPermission(todoId, user.getId());
+
+        Comment parent = commentRepository.findById(commentId)
+                .filter(comment -> comment.getTodo().getId().equals(todoId))
+                .orElseThrow(() -> new InvalidRequestException("Comment not found"));
+
+        if (parent.getDepth() >= Comment.MAX_DEPTH) {
+            throw new InvalidRequestException("답글은 최대 " + Comment.MAX_DEPTH + "단계까지 작성할 수 있습니다.");
+        }
+
+        Comment newComment = new Comment(
+                commentSaveRequest.getContents(),
+                user,
+                parent.getTodo(),
+                parent
+        );
+
+        return persist(user, todoId, newComment, parent.getThreadPath());
+    }
+
+    private CommentSaveResponse persist(User user, long todoId, Comment newComment, String parentPath) {
         Comment savedComment = commentRepository.save(newComment);
+        // id 발급 이후 경로를 확정한다 (커밋 시 UPDATE 로 반영)
+        savedComment.assignPath(parentPath);
+        todoRepository.addCommentCount(todoId, 1);
+
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        // 커밋 이후 SSE 구독자에게 전달된다
+        eventPublisher.publishEvent(new CommentSavedEvent(
+                todoId,
+                new CommentResponse(savedComment.getId(), savedComment.getContents(), userResponse)
+        ));
 
         return new CommentSaveResponse(
                 savedComment.getId(),
                 savedComment.getContents(),
-                new UserResponse(user.getId(), user.getEmail())
+                userResponse
+        );
+    }
+
+    public CommentThreadResponse getThread(long todoId, long commentId, int depth) {
+        if (depth < 0 || depth > Comment.MAX_DEPTH) {
+            throw new InvalidRequestException("depth는 0 이상 " + Comment.MAX_DEPTH + " 이하여야 합니다.");
+        }
+
+        Comment rootComment = commentRepository.findWithUserByIdAndTodoId(commentId, todoId)
+                .orElseThrow(() -> new InvalidRequestException("Comment not found"));
+        CommentThreadResponse root = toThreadNode(rootComment);
+        if (depth == 0) {
+            return root;
+        }
+
+        // 경로 백필 전의 기존 루트 댓글은 path 가 없으므로 자신의 id 경로를 접두사로 쓴다
+        String rootPath = rootComment.getThreadPath();
+        List<Comment> descendants = commentRepository.findDescendants(
+                todoId, rootPath, Comment.pathUpperBound(rootPath), rootComment.getDepth() + depth);
+
+        // 경로 순으로 정렬되어 있으므로 부모가 항상 자식보다 먼저 나온다
+        Map<Long, CommentThreadResponse> nodes = new HashMap<>();
+        nodes.put(rootComment.getId(), root);
+        for (Comment comment : descendants) {
+            CommentThreadResponse parent = nodes.get(comment.getParentId());
+            if (parent == null) {
+                // 중간 댓글이 삭제된 경우 그 하위 답글은 제외한다
+                continue;
+            }
+            CommentThreadResponse node = toThreadNode(comment);
+            parent.getReplies().add(node);
+            nodes.put(comment.getId(), node);
+        }
+        return root;
+    }
+
+    private CommentThreadResponse toThreadNode(Comment comment) {
+        User user = comment.getUser();
+        return new CommentThreadResponse(
+                comment.getId(),
+                comment.getContents(),
+                new UserResponse(user.getId(), user.getEmail()),
+                comment.getDepth()
         );
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+    public void validateCommentPermission(long todoId, long userId) {
+        // 요구사항 : 할일의 담당자가 아니면 댓글을 달 수 없도록 예외 처리
+        // 인메모리 담당자 인덱스로 확인해 일반적인 경우 SQL 없이 판단한다
+        boolean isManager = todoMembershipIndex.isManager(todoId, userId);
+
+        if (!isManager) {
+            // 실패한 경우에만 일정 존재 여부를 확인해 에러 메시지를 고른다
+            if (!todoRepository.existsById(todoId))
+                throw new InvalidRequestException("Todo not found");
+            throw new InvalidRequestException("관리자만 댓글을 추가할 수 있습니다.");
+        }
+    }
+
+    public CursorResponse<CommentResponse> getComments(long todoId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // size + 1 건을 조회해 다음 페이지 존재 여부를 판단한다
+        Limit limit = Limit.of(size + 1);
+        List<Comment> commentList;
+        if (cursor == null) {
+            commentList = commentRepository.findByTodoIdWithUser(todoId, limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            commentList = commentRepository.findByTodoIdWithUserAfter(todoId, keysetCursor.getAt(), keysetCursor.getId(), limit);
+        }
+
+        boolean hasNext = commentList.size() > size;
+        List<Comment> page = hasNext ? commentList.subList(0, size) : commentList;
 
         List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
+        for (Comment comment : page) {
             User user = comment.getUser();
             CommentResponse dto = new CommentResponse(
                     comment.getId(),
@@ -67,6 +184,12 @@ public class CommentService {
             );
             dtoList.add(dto);
         }
-        return dtoList;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(dtoList, nextCursor, hasNext);
     }
 }
@@ -0,0 +1,217 @@
+package org.example.expert.domain.comment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일정별 새 댓글을 SSE 로 전달한다.
+ * 구독자마다 크기가 제한된 버퍼를 두고, 버퍼가 가득 찬 느린 구독자는 연결을 끊는다.
+ * 전송은 공용 executor 에서 처리해 구독자마다 서블릿 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Service
+public class CommentStreamService {
+
+    private final CommentRepository commentRepository;
+    private final TaskExecutor taskExecutor;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${comment.stream.buffer-size:100}")
+    private int bufferSize;
+
+    @Value("${comment.stream.timeout-millis:1800000}")
+    private long timeoutMillis;
+
+    public CommentStreamService(
+            CommentRepository commentRepository,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor
+    ) {
+        this.commentRepository = commentRepository;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public SseEmitter subscribe(long todoId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(todoId, emitter);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 먼저 등록해 재전송 목록 조회 중에 커밋된 댓글도 놓치지 않는다
+        subscribers.computeIfAbsent(todoId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        List<CommentResponse> missed = lastEventId == null ? List.of() : findMissed(todoId, lastEventId);
+        subscriber.start(missed);
+        return emitter;
+    }
+
+    // 재전송은 버퍼 크기 단위 페이지로 읽는다. 페이지가 가득 차면 이어서 읽을 댓글이 더 있을 수 있다
+    private List<CommentResponse> findMissed(long todoId, long afterId) {
+        return commentRepository.findByTodoIdWithUserAfterId(todoId, afterId, Limit.of(bufferSize))
+                .stream()
+                .map(CommentStreamService::toResponse)
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentSaved(CommentSavedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getTodoId());
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            if (!subscriber.offer(event.getComment())) {
+                // 버퍼가 가득 찬 구독자는 끊고 Last-Event-ID 로 재연결하도록 한다
+                log.debug("느린 구독자 연결 종료: todoId={}", event.getTodoId());
+                remove(subscriber);
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    int subscriberCount(long todoId) {
+        Set<Subscriber> targets = subscribers.get(todoId);
+        return targets == null ? 0 : targets.size();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.todoId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static CommentResponse toResponse(Comment comment) {
+        return new CommentResponse(
+                comment.getId(),
+                comment.getContents(),
+                new UserResponse(comment.getUser().getId(), comment.getUser().getEmail())
+        );
+    }
+
+    private class Subscriber {
+
+        private final long todoId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<CommentResponse> buffer = new ArrayDeque<>();
+        // Last-Event-ID 이후 재전송할 댓글. 모두 보낼 때까지 buffer 의 실시간 이벤트는 보내지 않는다
+        private final ArrayDeque<CommentResponse> replay = new ArrayDeque<>();
+
+        // 재전송한 댓글 id. 등록 이후 buffer 에 같은 댓글이 들어왔을 수 있어 재전송이 끝날 때 buffer 에서 거른다
+        private final Set<Long> replayedIds = new HashSet<>();
+
+        private boolean started;
+        private boolean draining;
+        // 재전송할 다음 페이지의 기준 id (남은 페이지가 없으면 null)
+        private Long replayAfterId;
+
+        private Subscriber(long todoId, SseEmitter emitter) {
+            this.todoId = todoId;
+            this.emitter = emitter;
+        }
+
+        synchronized boolean offer(CommentResponse comment) {
+            if (buffer.size() >= bufferSize) {
+                return false;
+            }
+            buffer.addLast(comment);
+            scheduleDrain();
+            return true;
+        }
+
+        synchronized void start(List<CommentResponse> missed) {
+            // 재전송 목록을 등록 이후 쌓인 이벤트보다 먼저 보낸다
+            replay.addAll(missed);
+            replayAfterId = nextReplayAfterId(missed);
+            started = true;
+            scheduleDrain();
+        }
+
+        private Long nextReplayAfterId(List<CommentResponse> page) {
+            return page.size() >= bufferSize ? page.get(page.size() - 1).getId() : null;
+        }
+
+        private void scheduleDrain() {
+            if (started && !draining && (!buffer.isEmpty() || !replay.isEmpty() || replayAfterId != null)) {
+                draining = true;
+                taskExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                CommentResponse comment;
+                Long pageAfterId = null;
+                synchronized (this) {
+                    comment = replay.pollFirst();
+                    if (comment == null && replayAfterId != null) {
+                        pageAfterId = replayAfterId;
+                    } else {
+                        if (comment != null) {
+                            replayedIds.add(comment.getId());
+                        } else {
+                            // IDENTITY id 는 커밋 순서와 다를 수 있으므로 실시간 이벤트는 id 크기로 거르지 않는다
+                            if (!replayedIds.isEmpty()) {
+                                buffer.removeIf(buffered -> replayedIds.contains(buffered.getId()));
+                                replayedIds.clear();
+                            }
+                            comment = buffer.pollFirst();
+                        }
+                        if (comment == null) {
+                            draining = false;
+                            return;
+                        }
+                    }
+                }
+                try {
+                    if (pageAfterId != null) {
+                        // 재전송이 한 페이지를 넘으면 따라잡을 때까지 다음 페이지를 읽는다
+                        List<CommentResponse> page = findMissed(todoId, pageAfterId);
+                        synchronized (this) {
+                            replay.addAll(page);
+                            replayAfterId = nextReplayAfterId(page);
+                        }
+                        continue;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(comment.getId()))
+                            .name("comment")
+                            .data(comment));
+                } catch (IOException | RuntimeException e) {
+                    synchronized (this) {
+                        buffer.clear();
+                        replay.clear();
+                        replayedIds.clear();
+                        replayAfterId = null;
+                        draining = false;
+                    }
+                    remove(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+    }
+}
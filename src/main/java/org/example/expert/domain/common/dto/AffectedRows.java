@@ -0,0 +1,9 @@
+package org.example.expert.domain.common.dto;
+
+/**
+ * 관리자 일괄 작업 응답이 구현하면 감사 로그에 영향받은 행 수가 함께 기록된다.
+ */
+public interface AffectedRows {
+
+    long getAffectedRows();
+}
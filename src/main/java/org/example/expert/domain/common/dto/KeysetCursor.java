@@ -0,0 +1,44 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (정렬 시각, id) 키셋 페이지네이션 커서.
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출한다.
+ */
+@Getter
+public class KeysetCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime at;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime at, Long id) {
+        this.at = at;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = at + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
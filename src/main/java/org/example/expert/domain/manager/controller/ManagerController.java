@@ -6,7 +6,11 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagedTodoResponse;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
@@ -31,11 +35,29 @@ public class ManagerController {
         return ResponseEntity.ok(managerService.saveManager(authUser, todoId, managerSaveRequest));
     }
 
+    @PostMapping("/todos/{todoId}/managers/bulk")
+    public ResponseEntity<ManagerBulkSaveResponse> saveManagers(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody ManagerBulkSaveRequest managerBulkSaveRequest
+    ) {
+        return ResponseEntity.ok(managerService.saveManagers(authUser, todoId, managerBulkSaveRequest.getManagerUserIds()));
+    }
+
     @GetMapping("/todos/{todoId}/managers")
     public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
         return ResponseEntity.ok(managerService.getManagers(todoId));
     }
 
+    @GetMapping("/users/{userId}/managed-todos")
+    public ResponseEntity<CursorResponse<ManagedTodoResponse>> getManagedTodos(
+            @PathVariable long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(managerService.getManagedTodos(userId, cursor, size));
+    }
+
     @DeleteMapping("/todos/{todoId}/managers/{managerId}")
     public ResponseEntity<Void> deleteManager(
             @Auth AuthUser authUser,
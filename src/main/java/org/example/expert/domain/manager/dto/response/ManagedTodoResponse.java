@@ -0,0 +1,29 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 엔티티를 만들지 않고 JPQL 생성자 표현식으로 바로 채우는 조회 전용 DTO
+@Getter
+public class ManagedTodoResponse {
+
+    private final Long todoId;
+    private final String title;
+    private final String weather;
+    private final Long ownerId;
+    private final long commentCount;
+    private final long managerCount;
+    private final LocalDateTime modifiedAt;
+
+    public ManagedTodoResponse(Long todoId, String title, String weather, Long ownerId,
+                               long commentCount, long managerCount, LocalDateTime modifiedAt) {
+        this.todoId = todoId;
+        this.title = title;
+        this.weather = weather;
+        this.ownerId = ownerId;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.modifiedAt = modifiedAt;
+    }
+}
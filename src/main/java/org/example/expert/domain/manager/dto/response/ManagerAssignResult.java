@@ -0,0 +1,20 @@
+package org.example.expert.domain.manager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ManagerAssignResult {
+
+    private final Long userId;
+    private final ManagerAssignStatus status;
+    private final Long managerId;
+
+    public ManagerAssignResult(Long userId, ManagerAssignStatus status, Long managerId) {
+        this.userId = userId;
+        this.status = status;
+        this.managerId = managerId;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ManagerBulkSaveResponse {
+
+    private final int assignedCount;
+    private final List<ManagerAssignResult> results;
+
+    public ManagerBulkSaveResponse(int assignedCount, List<ManagerAssignResult> results) {
+        this.assignedCount = assignedCount;
+        this.results = results;
+    }
+}
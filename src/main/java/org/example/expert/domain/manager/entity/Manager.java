@@ -9,7 +9,13 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers",
+        // 같은 유저가 한 일정에 중복 등록되지 않도록 한다. 일정별 담당자 여부 확인에도 이 인덱스를 사용한다
+        uniqueConstraints = @UniqueConstraint(name = "uk_managers_todo_user", columnNames = {"todo_id", "user_id"}),
+        indexes = {
+                // 담당자 기준 일정 조회용 인덱스
+                @Index(name = "idx_managers_user_todo", columnList = "user_id, todo_id")
+        })
 public class Manager {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,8 @@
+package org.example.expert.domain.manager.enums;
+
+public enum ManagerAssignStatus {
+    ASSIGNED,
+    ALREADY_ASSIGNED,
+    USER_NOT_FOUND,
+    SELF_ASSIGNMENT
+}
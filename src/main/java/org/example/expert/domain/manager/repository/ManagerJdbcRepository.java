@@ -0,0 +1,74 @@
+package org.example.expert.domain.manager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * IDENTITY 전략에서는 Hibernate 가 insert 를 배치로 묶지 못하므로 JDBC 로 직접 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ManagerJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 사전 조회 없이 바로 insert 하고, (todo_id, user_id) 유니크 제약에 걸리면 빈 값을 반환한다
+    public Optional<Long> insertIfAbsent(long todoId, long userId) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, userId);
+                ps.setLong(2, todoId);
+                return ps;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+        return Optional.of(keyHolder.getKey().longValue());
+    }
+
+    // 생성된 담당자 id 를 userIds 순서대로 반환한다.
+    // 중간 행이 유니크 제약에 걸리면 savepoint 로 배치 전체를 되돌린 뒤 DuplicateKeyException 을 던진다
+    public List<Long> insertAll(long todoId, List<Long> userIds) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            Savepoint savepoint = con.setSavepoint();
+            try (PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Long userId : userIds) {
+                    ps.setLong(1, userId);
+                    ps.setLong(2, todoId);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> managerIds = new ArrayList<>(userIds.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        managerIds.add(keys.getLong(1));
+                    }
+                }
+                con.releaseSavepoint(savepoint);
+                return managerIds;
+            } catch (SQLException e) {
+                con.rollback(savepoint);
+                throw e;
+            }
+        });
+    }
+}
@@ -1,13 +1,79 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.response.ManagedTodoResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId")
+    List<Long> findUserIdsByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id IN :todoIds")
+    List<Manager> findAllByTodoIdInWithUser(@Param("todoIds") Collection<Long> todoIds);
+
+    // managers(user_id, todo_id) 인덱스를 따라 todo id 역순으로 읽는다
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagedTodoResponse(" +
+            "t.id, t.title, t.weather, t.user.id, t.commentCount, t.managerCount, t.modifiedAt) " +
+            "FROM Manager m JOIN m.todo t " +
+            "WHERE m.user.id = :userId " +
+            "ORDER BY m.todo.id DESC")
+    List<ManagedTodoResponse> findManagedTodosFirstPage(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagedTodoResponse(" +
+            "t.id, t.title, t.weather, t.user.id, t.commentCount, t.managerCount, t.modifiedAt) " +
+            "FROM Manager m JOIN m.todo t " +
+            "WHERE m.user.id = :userId AND m.todo.id < :lastTodoId " +
+            "ORDER BY m.todo.id DESC")
+    List<ManagedTodoResponse> findManagedTodosAfter(@Param("userId") Long userId,
+                                                    @Param("lastTodoId") Long lastTodoId,
+                                                    Limit limit);
+
+    // 잠금 읽기는 트랜잭션 스냅샷이 아니라 최신 커밋 행을 읽으므로, 동시 요청이 방금 등록한 행도 찾는다
+    @Query(value = "SELECT id FROM managers WHERE todo_id = :todoId AND user_id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Long> findIdByTodoIdAndUserIdForUpdate(@Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    // 요청한 유저가 일정 소유자이고 담당자가 그 일정에 속한 경우에만 삭제된다
+    @Modifying
+    @Query("DELETE FROM Manager m " +
+            "WHERE m.id = :managerId AND m.todo.id = :todoId " +
+            "AND EXISTS (SELECT 1 FROM Todo t WHERE t.id = :todoId AND t.user.id = :userId)")
+    int deleteOwnedManager(@Param("managerId") Long managerId,
+                           @Param("todoId") Long todoId,
+                           @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+    int bulkDeleteByTodoId(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query(value = "DELETE FROM managers WHERE todo_id IN (:todoIds)", nativeQuery = true)
+    int purgeByTodoIds(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("SELECT m.id FROM Manager m WHERE m.user.id = :userId AND m.id > :lastId ORDER BY m.id")
+    List<Long> findIdsByUserIdAfter(@Param("userId") Long userId, @Param("lastId") Long lastId, Limit limit);
+
+    @Query(value = "SELECT DISTINCT todo_id FROM managers WHERE id IN (:ids)", nativeQuery = true)
+    List<Long> findTodoIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 일정을 넘겨받은 유저가 아직 담당자가 아닌 일정에만 담당자로 등록한다
+    @Modifying
+    @Query(value = "INSERT INTO managers (todo_id, user_id) " +
+            "SELECT t.id, :userId FROM todos t WHERE t.id IN (:todoIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM managers m WHERE m.todo_id = t.id AND m.user_id = :userId)", nativeQuery = true)
+    int insertMissingManagers(@Param("todoIds") Collection<Long> todoIds, @Param("userId") Long userId);
 }
@@ -2,23 +2,38 @@ package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagedTodoResponse;
+import org.example.expert.domain.manager.dto.response.ManagerAssignResult;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
+import org.example.expert.domain.manager.repository.ManagerJdbcRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.UserSummary;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserCache;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +43,11 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final TodoMembershipIndex todoMembershipIndex;
+    private final UserCache userCache;
+    private final ManagerJdbcRepository managerJdbcRepository;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
@@ -44,22 +64,98 @@ public class ManagerService {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
+        UserSummary managerUser = userCache.get(managerSaveRequest.getManagerUserId())
                 .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
 
         if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
-        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        // 먼저 insert 하고, 이미 등록된 담당자(동시 요청 포함)면 기존 행을 그대로 반환한다
+        Optional<Long> insertedId = managerJdbcRepository.insertIfAbsent(todoId, managerUser.getId());
+        Long managerId;
+        if (insertedId.isPresent()) {
+            managerId = insertedId.get();
+            todoRepository.addManagerCount(todoId, 1);
+            todoMembershipIndex.addMember(todoId, managerUser.getId());
+        } else {
+            managerId = managerRepository.findIdByTodoIdAndUserIdForUpdate(todoId, managerUser.getId())
+                    .orElseThrow(() -> new InvalidRequestException("담당자 등록에 실패했습니다."));
+        }
 
         return new ManagerSaveResponse(
-                savedManagerUser.getId(),
+                managerId,
                 new UserResponse(managerUser.getId(), managerUser.getEmail())
         );
     }
 
+    @Transactional
+    public ManagerBulkSaveResponse saveManagers(AuthUser authUser, long todoId, List<Long> managerUserIds) {
+        if (managerUserIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("담당자 유저 id는 비어 있을 수 없습니다.");
+        }
+
+        User user = User.fromAuthUser(authUser);
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        // 요청한 유저를 캐시에서 확인하고, 없는 유저만 한 번의 IN 조회로 확인한다
+        List<Long> requestedIds = managerUserIds.stream().distinct().toList();
+        Set<Long> existingUserIds = userCache.getAll(requestedIds).keySet();
+
+        Map<Long, ManagerAssignResult> results = new LinkedHashMap<>();
+        List<Long> toInsert = new ArrayList<>();
+        for (Long userId : requestedIds) {
+            if (!existingUserIds.contains(userId)) {
+                results.put(userId, new ManagerAssignResult(userId, ManagerAssignStatus.USER_NOT_FOUND, null));
+            } else if (ObjectUtils.nullSafeEquals(user.getId(), userId)) {
+                results.put(userId, new ManagerAssignResult(userId, ManagerAssignStatus.SELF_ASSIGNMENT, null));
+            } else if (todoMembershipIndex.isManager(todoId, userId)) {
+                results.put(userId, new ManagerAssignResult(userId, ManagerAssignStatus.ALREADY_ASSIGNED, null));
+            } else {
+                toInsert.add(userId);
+            }
+        }
+
+        int assignedCount = 0;
+        if (!toInsert.isEmpty()) {
+            // 남은 유저는 하나의 JDBC 배치로 등록한다
+            try {
+                List<Long> managerIds = managerJdbcRepository.insertAll(todoId, toInsert);
+                for (int i = 0; i < toInsert.size(); i++) {
+                    Long userId = toInsert.get(i);
+                    results.put(userId, new ManagerAssignResult(userId, ManagerAssignStatus.ASSIGNED, managerIds.get(i)));
+                }
+                assignedCount = toInsert.size();
+            } catch (DuplicateKeyException e) {
+                // 동시 요청과 겹친 경우: 배치는 되돌려졌으므로 한 건씩 다시 등록하고, 이미 생긴 행은 잠금 읽기로 찾는다
+                for (Long userId : toInsert) {
+                    Optional<Long> insertedId = managerJdbcRepository.insertIfAbsent(todoId, userId);
+                    if (insertedId.isPresent()) {
+                        results.put(userId, new ManagerAssignResult(userId, ManagerAssignStatus.ASSIGNED, insertedId.get()));
+                        assignedCount++;
+                    } else {
+                        Long managerId = managerRepository.findIdByTodoIdAndUserIdForUpdate(todoId, userId)
+                                .orElseThrow(() -> new InvalidRequestException("담당자 등록에 실패했습니다."));
+                        results.put(userId, new ManagerAssignResult(userId, ManagerAssignStatus.ALREADY_ASSIGNED, managerId));
+                    }
+                }
+            }
+            if (assignedCount > 0) {
+                todoRepository.addManagerCount(todoId, assignedCount);
+            }
+            toInsert.forEach(userId -> todoMembershipIndex.addMember(todoId, userId));
+        }
+
+        // 요청 순서대로 결과를 반환한다 (중복 id 는 같은 결과를 반복)
+        List<ManagerAssignResult> ordered = managerUserIds.stream().map(results::get).toList();
+        return new ManagerBulkSaveResponse(assignedCount, ordered);
+    }
+
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -77,8 +173,46 @@ public class ManagerService {
         return dtoList;
     }
 
+    public CursorResponse<ManagedTodoResponse> getManagedTodos(long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // size + 1 건을 조회해 다음 페이지 존재 여부를 판단한다
+        Limit limit = Limit.of(size + 1);
+        List<ManagedTodoResponse> todos = cursor == null
+                ? managerRepository.findManagedTodosFirstPage(userId, limit)
+                : managerRepository.findManagedTodosAfter(userId, decodeTodoIdCursor(cursor), limit);
+
+        boolean hasNext = todos.size() > size;
+        List<ManagedTodoResponse> page = hasNext ? todos.subList(0, size) : todos;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getTodoId()) : null;
+        return new CursorResponse<>(page, nextCursor, hasNext);
+    }
+
+    private long decodeTodoIdCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+
     @Transactional
     public void deleteManager(long userId, long todoId, long managerId) {
+        // 소유자 확인과 일정 소속 확인을 하나의 조건부 DELETE 로 처리한다
+        int deleted = managerRepository.deleteOwnedManager(managerId, todoId, userId);
+        if (deleted == 0) {
+            throwDeleteFailure(userId, todoId, managerId);
+        }
+
+        todoRepository.addManagerCount(todoId, -1);
+        // 삭제된 담당자의 유저 id 를 알 수 없으므로 해당 일정의 인덱스를 비운다
+        todoMembershipIndex.invalidate(todoId);
+    }
+
+    // 삭제에 실패한 경우에만 원인을 조회해 에러 메시지를 고른다
+    private void throwDeleteFailure(long userId, long todoId, long managerId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
@@ -96,6 +230,6 @@ public class ManagerService {
             throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
         }
 
-        managerRepository.delete(manager);
+        throw new InvalidRequestException("담당자 삭제에 실패했습니다.");
     }
 }
@@ -0,0 +1,146 @@
+package org.example.expert.domain.manager.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * todoId -> 정렬된 담당자 userId 배열(long[]) 인메모리 인덱스.
+ * 처음 조회될 때 한 번 적재하고, 이후 담당자 변경은 ManagerService 가 커밋 후 반영(write-through)한다.
+ * write-through 는 이 인스턴스에만 반영되므로, 다른 인스턴스의 변경은 적재 후 TTL 이 지나 다시 적재할 때 반영된다.
+ * 일정 수 기준 LRU 로 크기를 제한한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoMembershipIndex {
+
+    private final ManagerRepository managerRepository;
+
+    @Value("${todo.membership-index.max-todos:10000}")
+    private int maxTodos;
+
+    // 다른 인스턴스에서 바뀐 담당자가 이 인스턴스에 남아 있을 수 있는 최대 시간
+    @Value("${todo.membership-index.ttl:PT30S}")
+    private Duration ttl;
+
+    private LongSupplier nanoClock = System::nanoTime;
+
+    private final Map<Long, Members> index = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Members> eldest) {
+            return size() > maxTodos;
+        }
+    };
+
+    // 적재 도중 변경이 일어났으면 적재 결과를 버리기 위한 변경 카운터
+    private long modCount;
+
+    public boolean isManager(long todoId, long userId) {
+        Members members;
+        long loadStamp;
+        synchronized (index) {
+            members = index.get(todoId);
+            loadStamp = modCount;
+        }
+
+        if (members == null || nanoClock.getAsLong() - members.loadedAt > ttl.toNanos()) {
+            members = new Members(load(todoId), nanoClock.getAsLong());
+            synchronized (index) {
+                if (loadStamp == modCount) {
+                    index.put(todoId, members);
+                }
+            }
+        }
+        return Arrays.binarySearch(members.userIds, userId) >= 0;
+    }
+
+    public void addMember(long todoId, long userId) {
+        afterCommit(() -> {
+            synchronized (index) {
+                modCount++;
+                Members members = index.get(todoId);
+                if (members == null || Arrays.binarySearch(members.userIds, userId) >= 0) {
+                    return;
+                }
+                long[] updated = Arrays.copyOf(members.userIds, members.userIds.length + 1);
+                updated[members.userIds.length] = userId;
+                Arrays.sort(updated);
+                // TTL 은 DB 에서 적재한 시각 기준으로 유지한다
+                index.put(todoId, new Members(updated, members.loadedAt));
+            }
+        });
+    }
+
+    public void removeMember(long todoId, long userId) {
+        afterCommit(() -> {
+            synchronized (index) {
+                modCount++;
+                Members members = index.get(todoId);
+                if (members == null) {
+                    return;
+                }
+                long[] userIds = members.userIds;
+                int position = Arrays.binarySearch(userIds, userId);
+                if (position < 0) {
+                    return;
+                }
+                long[] updated = new long[userIds.length - 1];
+                System.arraycopy(userIds, 0, updated, 0, position);
+                System.arraycopy(userIds, position + 1, updated, position, userIds.length - position - 1);
+                index.put(todoId, new Members(updated, members.loadedAt));
+            }
+        });
+    }
+
+    public void invalidate(long todoId) {
+        afterCommit(() -> {
+            synchronized (index) {
+                modCount++;
+                index.remove(todoId);
+            }
+        });
+    }
+
+    private long[] load(long todoId) {
+        List<Long> userIds = managerRepository.findUserIdsByTodoId(todoId);
+        return userIds.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Members {
+
+        private final long[] userIds;
+        private final long loadedAt;
+
+        private Members(long[] userIds, long loadedAt) {
+            this.userIds = userIds;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
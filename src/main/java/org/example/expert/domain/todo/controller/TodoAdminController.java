@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.LogAdminAccess;
+import org.example.expert.domain.todo.dto.response.PurgeStatusResponse;
+import org.example.expert.domain.todo.service.TombstonePurgeJob;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TombstonePurgeJob tombstonePurgeJob;
+
+    @LogAdminAccess
+    @GetMapping("/admin/todos/purge-status")
+    public ResponseEntity<PurgeStatusResponse> getPurgeStatus() {
+        return ResponseEntity.ok(tombstonePurgeJob.getStatus());
+    }
+}
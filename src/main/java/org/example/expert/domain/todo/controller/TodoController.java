@@ -4,14 +4,21 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.dto.response.TodoDeletionJobResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.enums.TodoInclude;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
@@ -29,13 +36,45 @@ public class TodoController {
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) List<String> include
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, TodoInclude.from(include)));
+    }
+
+    @GetMapping("/todos/mine")
+    public ResponseEntity<CursorResponse<TodoResponse>> getMyTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getMyTodos(authUser, cursor, size));
+    }
+
+    @GetMapping("/todos/managed")
+    public ResponseEntity<CursorResponse<TodoResponse>> getManagedTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.getManagedTodos(authUser, cursor, size));
     }
 
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    @DeleteMapping("/todos/{todoId}")
+    public ResponseEntity<TodoDeleteResponse> deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        TodoDeleteResponse response = todoService.deleteTodo(authUser, todoId);
+        // 비동기 삭제로 넘어간 경우 작업 id 와 함께 202 를 반환
+        HttpStatus status = response.getJobId() == null ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @GetMapping("/todos/deletion-jobs/{jobId}")
+    public ResponseEntity<TodoDeletionJobResponse> getDeletionJob(@Auth AuthUser authUser, @PathVariable String jobId) {
+        return ResponseEntity.ok(todoService.getDeletionJob(authUser, jobId));
+    }
 }
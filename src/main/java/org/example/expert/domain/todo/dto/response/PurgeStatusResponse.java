@@ -0,0 +1,29 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class PurgeStatusResponse {
+
+    private final boolean running;
+    private final LocalDateTime lastStartedAt;
+    private final LocalDateTime lastFinishedAt;
+    private final long lastRunPurgedComments;
+    private final long lastRunPurgedTodos;
+    private final long totalPurgedComments;
+    private final long totalPurgedTodos;
+
+    public PurgeStatusResponse(boolean running, LocalDateTime lastStartedAt, LocalDateTime lastFinishedAt,
+                               long lastRunPurgedComments, long lastRunPurgedTodos,
+                               long totalPurgedComments, long totalPurgedTodos) {
+        this.running = running;
+        this.lastStartedAt = lastStartedAt;
+        this.lastFinishedAt = lastFinishedAt;
+        this.lastRunPurgedComments = lastRunPurgedComments;
+        this.lastRunPurgedTodos = lastRunPurgedTodos;
+        this.totalPurgedComments = totalPurgedComments;
+        this.totalPurgedTodos = totalPurgedTodos;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.TodoDeletionStatus;
+
+@Getter
+public class TodoDeleteResponse {
+
+    private final Long todoId;
+    private final TodoDeletionStatus status;
+    // 비동기 삭제로 넘어간 경우에만 존재
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String jobId;
+
+    public TodoDeleteResponse(Long todoId, TodoDeletionStatus status, String jobId) {
+        this.todoId = todoId;
+        this.status = status;
+        this.jobId = jobId;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.TodoDeletionStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoDeletionJobResponse {
+
+    private final String jobId;
+    private final Long todoId;
+    private final TodoDeletionStatus status;
+    private final long deletedComments;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+
+    public TodoDeletionJobResponse(String jobId, Long todoId, TodoDeletionStatus status, long deletedComments, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        this.jobId = jobId;
+        this.todoId = todoId;
+        this.status = status;
+        this.deletedComments = deletedComments;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+}
@@ -1,9 +1,12 @@
 package org.example.expert.domain.todo.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 public class TodoResponse {
@@ -16,7 +19,20 @@ public class TodoResponse {
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
 
+    // include 파라미터로 요청된 경우에만 응답에 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<ManagerResponse> managers;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long commentCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long managerCount;
+
     public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, null, null, null);
+    }
+
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                        List<ManagerResponse> managers, Long commentCount, Long managerCount) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -24,5 +40,8 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.managers = managers;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
     }
 }
@@ -7,14 +7,22 @@ import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 소유자별 목록(키셋 페이지네이션)용 커버링 인덱스
+        @Index(name = "idx_todos_user_modified_at_id", columnList = "user_id, modified_at, id"),
+        @Index(name = "idx_todos_deleted_at", columnList = "deleted_at")
+})
+@SQLRestriction("deleted_at IS NULL") // 삭제 표시된 일정은 모든 조회에서 제외
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,6 +31,17 @@ public class Todo extends Timestamped {
     private String contents;
     private String weather;
 
+    // 댓글/담당자 수 비정규화 카운터 (TodoRepository 의 원자적 UPDATE 로만 변경)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount = 0;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long managerCount = 0;
+
+    // 삭제 표시 시각 (실제 삭제는 TombstonePurgeJob 이 비혼잡 시간대에 수행)
+    private LocalDateTime deletedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -39,6 +58,7 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
     }
 
     public void update(String title, String contents) {
@@ -0,0 +1,8 @@
+package org.example.expert.domain.todo.enums;
+
+public enum TodoDeletionStatus {
+    DELETED,
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+}
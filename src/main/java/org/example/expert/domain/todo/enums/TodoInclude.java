@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+public enum TodoInclude {
+    MANAGERS("managers"),
+    COMMENT_COUNT("commentCount"),
+    MANAGER_COUNT("managerCount");
+
+    private final String param;
+
+    TodoInclude(String param) {
+        this.param = param;
+    }
+
+    public static TodoInclude of(String include) {
+        return Arrays.stream(TodoInclude.values())
+                .filter(i -> i.param.equalsIgnoreCase(include.trim()))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 include 값입니다: " + include));
+    }
+
+    public static Set<TodoInclude> from(List<String> includes) {
+        Set<TodoInclude> result = EnumSet.noneOf(TodoInclude.class);
+        if (includes == null) {
+            return result;
+        }
+        for (String include : includes) {
+            if (include != null && !include.isBlank()) {
+                result.add(of(include));
+            }
+        }
+        return result;
+    }
+}
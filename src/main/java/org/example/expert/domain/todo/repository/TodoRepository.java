@@ -1,12 +1,18 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
@@ -20,4 +26,90 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user " +
+            "WHERE t.user.id = :userId " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findOwnedFirstPage(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user " +
+            "WHERE t.user.id = :userId " +
+            "AND (t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id)) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findOwnedAfter(@Param("userId") Long userId,
+                              @Param("modifiedAt") LocalDateTime modifiedAt,
+                              @Param("id") Long id,
+                              Limit limit);
+
+    @Query("SELECT t FROM Manager m JOIN m.todo t JOIN FETCH t.user " +
+            "WHERE m.user.id = :userId " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findManagedFirstPage(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT t FROM Manager m JOIN m.todo t JOIN FETCH t.user " +
+            "WHERE m.user.id = :userId " +
+            "AND (t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id)) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findManagedAfter(@Param("userId") Long userId,
+                                @Param("modifiedAt") LocalDateTime modifiedAt,
+                                @Param("id") Long id,
+                                Limit limit);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.deletedAt = :deletedAt WHERE t.id = :todoId AND t.deletedAt IS NULL")
+    int softDeleteById(@Param("todoId") Long todoId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 남은 댓글이 없는 삭제 표시 일정만 purge 대상
+    @Query(value = "SELECT t.id FROM todos t " +
+            "WHERE t.deleted_at IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.todo_id = t.id) " +
+            "ORDER BY t.id LIMIT :limit", nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM todos WHERE id IN (:ids)", nativeQuery = true)
+    int purgeByIds(@Param("ids") Collection<Long> ids);
+
+    // 탈퇴 처리용: 삭제 표시된 일정까지 포함해 소유 일정 id 를 순서대로 읽는다
+    @Query(value = "SELECT id FROM todos WHERE user_id = :userId AND id > :lastId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findAllOwnedIdsAfter(@Param("userId") Long userId, @Param("lastId") Long lastId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE todos SET user_id = :userId WHERE id IN (:ids)", nativeQuery = true)
+    int reassignOwner(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 실제 댓글/담당자 수와 어긋난 카운터만 id 구간 단위로 보정
+    @Modifying
+    @Query("UPDATE Todo t " +
+            "SET t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id) " +
+            "WHERE t.id IN :todoIds")
+    int recountManagers(@Param("todoIds") Collection<Long> todoIds);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t " +
+            "SET t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id) " +
+            "WHERE t.id BETWEEN :fromId AND :toId " +
+            "AND (t.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) " +
+            "OR t.managerCount <> (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id))")
+    int recountBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 일괄 삭제 후 영향받은 일정의 댓글 수만 다시 계산한다
+    @Modifying
+    @Query("UPDATE Todo t " +
+            "SET t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) " +
+            "WHERE t.id IN :todoIds")
+    int recountComments(@Param("todoIds") Collection<Long> todoIds);
 }
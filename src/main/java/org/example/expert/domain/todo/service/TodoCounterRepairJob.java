@@ -0,0 +1,51 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * todos 의 commentCount / managerCount 카운터가 실제 행 수와 어긋난 경우를 보정한다.
+ * id 구간(chunk) 마다 별도 트랜잭션으로 실행되어 한 번에 잠기는 행 수를 제한한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCounterRepairJob {
+
+    private final TodoRepository todoRepository;
+
+    @Value("${todo.counter-repair.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${todo.counter-repair.cron:0 30 3 * * *}")
+    public void run() {
+        repair();
+    }
+
+    public int repair() {
+        long lastId = 0L;
+        int repaired = 0;
+
+        while (true) {
+            List<Long> ids = todoRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            long fromId = ids.get(0);
+            long toId = ids.get(ids.size() - 1);
+            repaired += todoRepository.recountBetween(fromId, toId);
+            lastId = toId;
+        }
+
+        log.info("Todo counter repair 완료 - 보정된 일정 수 : {}", repaired);
+        return repaired;
+    }
+}
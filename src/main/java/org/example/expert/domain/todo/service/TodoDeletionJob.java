@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.dto.response.TodoDeletionJobResponse;
+import org.example.expert.domain.todo.enums.TodoDeletionStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+public class TodoDeletionJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long todoId;
+    private final Long requestedBy;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong deletedComments = new AtomicLong();
+    private volatile TodoDeletionStatus status = TodoDeletionStatus.IN_PROGRESS;
+    private volatile LocalDateTime finishedAt;
+
+    public TodoDeletionJob(Long todoId, Long requestedBy) {
+        this.todoId = todoId;
+        this.requestedBy = requestedBy;
+    }
+
+    void addDeletedComments(long count) {
+        deletedComments.addAndGet(count);
+    }
+
+    void finish(TodoDeletionStatus status) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public TodoDeletionJobResponse toResponse() {
+        return new TodoDeletionJobResponse(id, todoId, status, deletedComments.get(), startedAt, finishedAt);
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.enums.TodoDeletionStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 댓글이 많은 일정의 댓글을 백그라운드에서 chunk 단위로 삭제 표시한다.
+ * chunk 마다 별도 트랜잭션으로 커밋해 한 번에 잠기는 행 수를 제한한다.
+ */
+@Slf4j
+@Service
+public class TodoDeletionService {
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+
+    private final Map<String, TodoDeletionJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${todo.deletion.chunk-size:1000}")
+    private int chunkSize;
+
+    public TodoDeletionService(
+            CommentRepository commentRepository,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor
+    ) {
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public TodoDeletionJob start(long todoId, long userId) {
+        // 완료 후 일정 시간이 지난 작업 상태는 정리한다
+        LocalDateTime expiredBefore = LocalDateTime.now().minusHours(1);
+        jobs.values().removeIf(j -> j.getFinishedAt() != null && j.getFinishedAt().isBefore(expiredBefore));
+
+        TodoDeletionJob job = new TodoDeletionJob(todoId, userId);
+        jobs.put(job.getId(), job);
+
+        // 일정 삭제 표시가 커밋된 뒤에 작업을 시작한다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    taskExecutor.execute(() -> run(job));
+                }
+            });
+        } else {
+            taskExecutor.execute(() -> run(job));
+        }
+        return job;
+    }
+
+    public TodoDeletionJob getJob(String jobId, long userId) {
+        TodoDeletionJob job = jobs.get(jobId);
+        if (job == null || job.getRequestedBy() != userId) {
+            throw new InvalidRequestException("Deletion job not found");
+        }
+        return job;
+    }
+
+    void run(TodoDeletionJob job) {
+        Long todoId = job.getTodoId();
+        try {
+            while (true) {
+                Integer deleted = transactionTemplate.execute(status -> {
+                    List<Long> commentIds = commentRepository.findIdsByTodoId(todoId, Limit.of(chunkSize));
+                    return commentIds.isEmpty() ? 0 : commentRepository.softDeleteByIds(commentIds, LocalDateTime.now());
+                });
+                if (deleted == null || deleted == 0) {
+                    break;
+                }
+                job.addDeletedComments(deleted);
+            }
+            job.finish(TodoDeletionStatus.COMPLETED);
+        } catch (RuntimeException e) {
+            log.error("Todo 삭제 작업 실패 - jobId : {}, todoId : {}", job.getId(), todoId, e);
+            job.finish(TodoDeletionStatus.FAILED);
+        }
+    }
+}
@@ -2,20 +2,37 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.dto.response.TodoDeletionJobResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoDeletionStatus;
+import org.example.expert.domain.todo.enums.TodoInclude;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +41,16 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+    private final TodoDeletionService todoDeletionService;
+    private final TodoMembershipIndex todoMembershipIndex;
+
+    // 댓글 수가 이 값을 넘으면 비동기 chunk 삭제로 넘긴다
+    @Value("${todo.deletion.sync-comment-limit:1000}")
+    private long syncDeleteCommentLimit;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
@@ -49,10 +76,21 @@ public class TodoService {
     }
 
     public Page<TodoResponse> getTodos(int page, int size) {
+        return getTodos(page, size, EnumSet.noneOf(TodoInclude.class));
+    }
+
+    public Page<TodoResponse> getTodos(int page, int size, Set<TodoInclude> includes) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
         Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
 
+        // 페이지 크기와 상관없이 담당자는 IN 쿼리 한 번으로, 개수는 카운터 컬럼에서 가져온다
+        List<Long> todoIds = todos.map(Todo::getId).getContent();
+        Map<Long, List<ManagerResponse>> managersByTodoId = includes.contains(TodoInclude.MANAGERS)
+                ? getManagersByTodoIds(todoIds) : null;
+        boolean includeCommentCount = includes.contains(TodoInclude.COMMENT_COUNT);
+        boolean includeManagerCount = includes.contains(TodoInclude.MANAGER_COUNT);
+
         return todos.map(todo -> new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
@@ -60,10 +98,27 @@ public class TodoService {
                 todo.getWeather(),
                 new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                managersByTodoId == null ? null : managersByTodoId.getOrDefault(todo.getId(), List.of()),
+                includeCommentCount ? todo.getCommentCount() : null,
+                includeManagerCount ? todo.getManagerCount() : null
         ));
     }
 
+    private Map<Long, List<ManagerResponse>> getManagersByTodoIds(List<Long> todoIds) {
+        if (todoIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<ManagerResponse>> result = new HashMap<>();
+        for (Manager manager : managerRepository.findAllByTodoIdInWithUser(todoIds)) {
+            User user = manager.getUser();
+            result.computeIfAbsent(manager.getTodo().getId(), id -> new ArrayList<>())
+                    .add(new ManagerResponse(manager.getId(), new UserResponse(user.getId(), user.getEmail())));
+        }
+        return result;
+    }
+
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -80,4 +135,94 @@ public class TodoService {
                 todo.getModifiedAt()
         );
     }
+
+    @Transactional
+    public TodoDeleteResponse deleteTodo(AuthUser authUser, long todoId) {
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        // 일정은 즉시 삭제 표시하고, 댓글은 집합 단위 UPDATE 로 삭제 표시한다.
+        // 실제 행 삭제는 TombstonePurgeJob 이 비혼잡 시간대에 수행한다.
+        LocalDateTime now = LocalDateTime.now();
+        managerRepository.bulkDeleteByTodoId(todoId);
+        todoRepository.softDeleteById(todoId, now);
+        todoMembershipIndex.invalidate(todoId);
+
+        if (todo.getCommentCount() > syncDeleteCommentLimit) {
+            TodoDeletionJob job = todoDeletionService.start(todoId, authUser.getId());
+            return new TodoDeleteResponse(todoId, TodoDeletionStatus.IN_PROGRESS, job.getId());
+        }
+
+        commentRepository.softDeleteByTodoId(todoId, now);
+        return new TodoDeleteResponse(todoId, TodoDeletionStatus.DELETED, null);
+    }
+
+    public TodoDeletionJobResponse getDeletionJob(AuthUser authUser, String jobId) {
+        return todoDeletionService.getJob(jobId, authUser.getId()).toResponse();
+    }
+
+    public CursorResponse<TodoResponse> getMyTodos(AuthUser authUser, String cursor, int size) {
+        validateCursorPageSize(size);
+        Limit limit = Limit.of(size + 1);
+
+        List<Todo> todos;
+        if (cursor == null) {
+            todos = todoRepository.findOwnedFirstPage(authUser.getId(), limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            todos = todoRepository.findOwnedAfter(authUser.getId(), keysetCursor.getAt(), keysetCursor.getId(), limit);
+        }
+        return toCursorResponse(todos, size);
+    }
+
+    public CursorResponse<TodoResponse> getManagedTodos(AuthUser authUser, String cursor, int size) {
+        validateCursorPageSize(size);
+        Limit limit = Limit.of(size + 1);
+
+        List<Todo> todos;
+        if (cursor == null) {
+            todos = todoRepository.findManagedFirstPage(authUser.getId(), limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            todos = todoRepository.findManagedAfter(authUser.getId(), keysetCursor.getAt(), keysetCursor.getId(), limit);
+        }
+        return toCursorResponse(todos, size);
+    }
+
+    private void validateCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    // size + 1 건을 조회해 다음 페이지 존재 여부를 판단한다
+    private CursorResponse<TodoResponse> toCursorResponse(List<Todo> todos, int size) {
+        boolean hasNext = todos.size() > size;
+        List<Todo> page = hasNext ? todos.subList(0, size) : todos;
+
+        List<TodoResponse> content = new ArrayList<>();
+        for (Todo todo : page) {
+            User user = todo.getUser();
+            content.add(new TodoResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getContents(),
+                    todo.getWeather(),
+                    new UserResponse(user.getId(), user.getEmail()),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt()
+            ));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Todo last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
 }
@@ -0,0 +1,138 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.PurgeStatusResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * 삭제 표시된 댓글과 일정을 비혼잡 시간대에 작은 batch 로 나눠 실제 삭제한다.
+ * 삭제 표시된 일정에 남아 있는 댓글도 비동기 댓글 삭제 작업의 성공 여부와 관계없이 함께 지운다.
+ * batch 사이에 쉬어 가며, 허용 시간을 넘기면 다음 실행으로 넘긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TombstonePurgeJob {
+
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${purge.batch-size:500}")
+    private int batchSize;
+    @Value("${purge.throttle-millis:200}")
+    private long throttleMillis;
+    @Value("${purge.max-duration:PT1H}")
+    private Duration maxDuration;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong totalPurgedComments = new AtomicLong();
+    private final AtomicLong totalPurgedTodos = new AtomicLong();
+    private final AtomicLong lastRunPurgedComments = new AtomicLong();
+    private final AtomicLong lastRunPurgedTodos = new AtomicLong();
+    private volatile LocalDateTime lastStartedAt;
+    private volatile LocalDateTime lastFinishedAt;
+
+    @Scheduled(cron = "${purge.cron:0 0 4 * * *}")
+    public void run() {
+        purge();
+    }
+
+    public void purge() {
+        // 이전 실행이 아직 끝나지 않았으면 건너뛴다
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        lastStartedAt = LocalDateTime.now();
+        lastRunPurgedComments.set(0);
+        lastRunPurgedTodos.set(0);
+        LocalDateTime deadline = lastStartedAt.plus(maxDuration);
+
+        try {
+            // 댓글을 먼저 지워야 남은 댓글이 없는 일정을 지울 수 있다
+            if (!purgeComments(commentRepository::findIdsOfTombstonedTodos, deadline)
+                    || !purgeComments(commentRepository::findTombstonedIds, deadline)) {
+                return;
+            }
+
+            while (LocalDateTime.now().isBefore(deadline)) {
+                List<Long> todoIds = todoRepository.findPurgeableIds(batchSize);
+                if (todoIds.isEmpty()) {
+                    break;
+                }
+                Integer purged = transactionTemplate.execute(status -> {
+                    managerRepository.purgeByTodoIds(todoIds);
+                    return todoRepository.purgeByIds(todoIds);
+                });
+                record(purged, lastRunPurgedTodos, totalPurgedTodos);
+                if (!throttle()) {
+                    return;
+                }
+            }
+        } finally {
+            lastFinishedAt = LocalDateTime.now();
+            running.set(false);
+            log.info("Tombstone purge 종료 - 댓글 : {}, 일정 : {}", lastRunPurgedComments.get(), lastRunPurgedTodos.get());
+        }
+    }
+
+    public PurgeStatusResponse getStatus() {
+        return new PurgeStatusResponse(
+                running.get(),
+                lastStartedAt,
+                lastFinishedAt,
+                lastRunPurgedComments.get(),
+                lastRunPurgedTodos.get(),
+                totalPurgedComments.get(),
+                totalPurgedTodos.get()
+        );
+    }
+
+    // 인터럽트되면 false
+    private boolean purgeComments(IntFunction<List<Long>> findIds, LocalDateTime deadline) {
+        while (LocalDateTime.now().isBefore(deadline)) {
+            List<Long> commentIds = findIds.apply(batchSize);
+            if (commentIds.isEmpty()) {
+                break;
+            }
+            Integer purged = transactionTemplate.execute(status -> commentRepository.purgeByIds(commentIds));
+            record(purged, lastRunPurgedComments, totalPurgedComments);
+            if (!throttle()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void record(Integer purged, AtomicLong lastRun, AtomicLong total) {
+        long count = purged == null ? 0 : purged;
+        lastRun.addAndGet(count);
+        total.addAndGet(count);
+    }
+
+    private boolean throttle() {
+        try {
+            Thread.sleep(throttleMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
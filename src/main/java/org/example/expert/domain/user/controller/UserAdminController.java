@@ -1,11 +1,22 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.LogAdminAccess;
+import org.example.expert.domain.user.dto.request.UserBulkRoleChangeRequest;
+import org.example.expert.domain.user.dto.request.UserOffboardingRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserBulkRoleChangeResponse;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserOffboardingStatusResponse;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserCache;
+import org.example.expert.domain.user.service.UserOffboardingJob;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -14,9 +25,38 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserCache userCache;
+    private final UserOffboardingJob userOffboardingJob;
     @LogAdminAccess
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    @LogAdminAccess
+    @PatchMapping("/admin/users/roles")
+    public ResponseEntity<UserBulkRoleChangeResponse> changeUserRoles(@Valid @RequestBody UserBulkRoleChangeRequest userBulkRoleChangeRequest) {
+        return ResponseEntity.ok(userAdminService.changeUserRoles(userBulkRoleChangeRequest));
+    }
+
+    @LogAdminAccess
+    @PostMapping("/admin/users/{userId}/offboarding")
+    public ResponseEntity<UserOffboardingStatusResponse> offboardUser(
+            @PathVariable long userId,
+            @RequestBody(required = false) UserOffboardingRequest userOffboardingRequest
+    ) {
+        return ResponseEntity.accepted().body(userOffboardingJob.start(userId, userOffboardingRequest));
+    }
+
+    @LogAdminAccess
+    @GetMapping("/admin/users/{userId}/offboarding")
+    public ResponseEntity<UserOffboardingStatusResponse> getOffboardingStatus(@PathVariable long userId) {
+        return ResponseEntity.ok(userOffboardingJob.getStatus(userId));
+    }
+
+    @LogAdminAccess
+    @GetMapping("/admin/users/cache-stats")
+    public ResponseEntity<UserCacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(userCache.getStats());
+    }
 }
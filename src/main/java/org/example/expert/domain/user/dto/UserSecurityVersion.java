@@ -0,0 +1,20 @@
+package org.example.expert.domain.user.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 보안 버전 증분 갱신용 조회 정보
+@Getter
+public class UserSecurityVersion {
+
+    private final Long id;
+    private final long securityVersion;
+    private final LocalDateTime modifiedAt;
+
+    public UserSecurityVersion(Long id, long securityVersion, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.securityVersion = securityVersion;
+        this.modifiedAt = modifiedAt;
+    }
+}
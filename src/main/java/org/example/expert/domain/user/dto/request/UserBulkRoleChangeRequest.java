@@ -0,0 +1,24 @@
+package org.example.expert.domain.user.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// userIds 또는 emailPattern('*' 와일드카드, 예: *@example.com) 중 하나로 대상을 지정한다
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkRoleChangeRequest {
+
+    @NotBlank
+    private String role;
+
+    @Size(max = 1000)
+    private List<Long> userIds;
+
+    private String emailPattern;
+}
@@ -0,0 +1,14 @@
+package org.example.expert.domain.user.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserOffboardingRequest {
+
+    // 지정하면 소유 일정을 이 유저에게 넘기고, 비워 두면 소유 일정을 삭제한다
+    private Long reassignToUserId;
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserBatchResponse {
+
+    private final List<UserResponse> users;
+    private final List<Long> missingIds;
+
+    public UserBatchResponse(List<UserResponse> users, List<Long> missingIds) {
+        this.users = users;
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.common.dto.AffectedRows;
+
+@Getter
+public class UserBulkRoleChangeResponse implements AffectedRows {
+
+    private final long updatedCount;
+
+    public UserBulkRoleChangeResponse(long updatedCount) {
+        this.updatedCount = updatedCount;
+    }
+
+    @Override
+    public long getAffectedRows() {
+        return updatedCount;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.OffboardingPhase;
+import org.example.expert.domain.user.enums.OffboardingStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class UserOffboardingStatusResponse {
+
+    private final Long userId;
+    private final Long reassignToUserId;
+    private final OffboardingStatus status;
+    private final OffboardingPhase phase;
+    private final long lastProcessedId;
+    private final long processedTodos;
+    private final long processedComments;
+    private final long processedManagers;
+    private final String errorMessage;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime updatedAt;
+
+    public UserOffboardingStatusResponse(Long userId, Long reassignToUserId, OffboardingStatus status, OffboardingPhase phase,
+                                         long lastProcessedId, long processedTodos, long processedComments, long processedManagers,
+                                         String errorMessage, LocalDateTime startedAt, LocalDateTime updatedAt) {
+        this.userId = userId;
+        this.reassignToUserId = reassignToUserId;
+        this.status = status;
+        this.phase = phase;
+        this.lastProcessedId = lastProcessedId;
+        this.processedTodos = processedTodos;
+        this.processedComments = processedComments;
+        this.processedManagers = processedManagers;
+        this.errorMessage = errorMessage;
+        this.startedAt = startedAt;
+        this.updatedAt = updatedAt;
+    }
+}
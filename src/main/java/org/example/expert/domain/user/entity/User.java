@@ -6,11 +6,17 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.Locale;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 보안 버전 증분 갱신(UserSecurityVersionRegistry) 조회용
+        @Index(name = "idx_users_modified_at", columnList = "modified_at")
+})
 public class User extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,6 +28,7 @@ public class User extends Timestamped {
 
     public void setEmail(String email) {
         this.email = email;
+        this.normalizedEmail = normalizeEmail(email);
     }
 
     public void setPassword(String password) {
@@ -34,12 +41,22 @@ public class User extends Timestamped {
 
     @Column(unique = true)
     private String email;
+    // 대소문자 구분 없는 이메일 조회/중복 확인용 (lower() 조건은 인덱스를 타지 못하므로 정규화한 값을 따로 저장한다)
+    @Column(unique = true)
+    private String normalizedEmail;
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
 
+    // 역할/비밀번호가 바뀔 때마다 증가하며, 토큰에 담긴 값보다 크면 해당 토큰을 거부한다.
+    // 동시 변경에서 증가가 유실되지 않도록 엔티티로는 쓰지 않고 UserRepository.bumpSecurityVersion 으로만 올린다
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long securityVersion = 0;
+
     public User(String email, String password, UserRole userRole) {
         this.email = email;
+        this.normalizedEmail = normalizeEmail(email);
         this.password = password;
         this.userRole = userRole;
     }
@@ -50,6 +67,10 @@ public class User extends Timestamped {
         this.userRole = userRole;
     }
 
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
     public static User fromAuthUser(AuthUser authUser) {
         return new User(authUser.getId(), authUser.getEmail(), authUser.getUserRole());
     }
@@ -0,0 +1,82 @@
+package org.example.expert.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.user.enums.OffboardingPhase;
+import org.example.expert.domain.user.enums.OffboardingStatus;
+
+/**
+ * 유저 탈퇴 처리 작업의 진행 상태(체크포인트).
+ * 각 chunk 의 삭제와 같은 트랜잭션에서 갱신되므로, 중단된 작업은 마지막으로 커밋된 chunk 다음부터 이어서 실행된다.
+ * 유저 행이 삭제된 뒤에도 이력 확인을 위해 남겨 두므로 users 에 외래 키를 두지 않는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "user_offboardings",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_offboardings_user", columnNames = "user_id"))
+public class UserOffboarding extends Timestamped {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // null 이면 소유 일정을 삭제하고, 있으면 해당 유저에게 넘긴다
+    private Long reassignToUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OffboardingStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OffboardingPhase phase;
+
+    // 현재 단계에서 마지막으로 처리한 행의 id
+    private long lastProcessedId;
+
+    private long processedTodos;
+    private long processedComments;
+    private long processedManagers;
+
+    private String errorMessage;
+
+    public UserOffboarding(Long userId, Long reassignToUserId) {
+        this.userId = userId;
+        this.reassignToUserId = reassignToUserId;
+        this.status = OffboardingStatus.RUNNING;
+        this.phase = OffboardingPhase.TODO_COMMENTS;
+    }
+
+    public void resume() {
+        this.status = OffboardingStatus.RUNNING;
+        this.errorMessage = null;
+    }
+
+    public void checkpoint(long lastProcessedId, long processed) {
+        this.lastProcessedId = lastProcessedId;
+        switch (phase) {
+            case TODOS -> processedTodos += processed;
+            case TODO_COMMENTS, COMMENTS -> processedComments += processed;
+            case MANAGERS -> processedManagers += processed;
+            default -> { }
+        }
+    }
+
+    public void nextPhase() {
+        this.phase = phase.next();
+        this.lastProcessedId = 0L;
+        if (phase == OffboardingPhase.DONE) {
+            this.status = OffboardingStatus.COMPLETED;
+        }
+    }
+
+    public void fail(String errorMessage) {
+        this.status = OffboardingStatus.FAILED;
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.expert.domain.user.enums;
+
+// 외래 키 순서대로 진행한다: 소유 일정의 댓글 → 소유 일정 → 작성 댓글 → 담당자 등록 → 유저
+public enum OffboardingPhase {
+    TODO_COMMENTS, TODOS, COMMENTS, MANAGERS, USER, DONE;
+
+    public OffboardingPhase next() {
+        return values()[Math.min(ordinal() + 1, DONE.ordinal())];
+    }
+}
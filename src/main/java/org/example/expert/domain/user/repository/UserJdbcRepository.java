@@ -0,0 +1,33 @@
+package org.example.expert.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.UserSummary;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 정규화 이메일 백필처럼 행마다 값이 다른 대량 UPDATE 를 JDBC 배치로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    private static final String UPDATE_NORMALIZED_EMAIL_SQL =
+            "UPDATE users SET normalized_email = ? WHERE id = ? AND normalized_email IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int[] updateNormalizedEmails(List<UserSummary> users) {
+        return jdbcTemplate.batchUpdate(UPDATE_NORMALIZED_EMAIL_SQL, users, users.size(), (ps, user) -> {
+            ps.setString(1, User.normalizeEmail(user.getEmail()));
+            ps.setLong(2, user.getId());
+        })[0];
+    }
+
+    public int updateNormalizedEmail(UserSummary user) {
+        return jdbcTemplate.update(UPDATE_NORMALIZED_EMAIL_SQL, User.normalizeEmail(user.getEmail()), user.getId());
+    }
+}
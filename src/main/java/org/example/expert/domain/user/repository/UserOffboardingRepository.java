@@ -0,0 +1,28 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.UserOffboarding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserOffboardingRepository extends JpaRepository<UserOffboarding, Long> {
+    Optional<UserOffboarding> findByUserId(Long userId);
+
+    // 탈퇴 처리가 시작된 유저 (유저 행이 삭제된 뒤에도 토큰을 계속 거부하기 위해 사용)
+    @Query("SELECT o.userId FROM UserOffboarding o WHERE o.createdAt >= :since")
+    List<Long> findUserIdsStartedSince(@Param("since") LocalDateTime since);
+
+    // 실패했거나, 실행하던 인스턴스가 멈춰 체크포인트가 staleBefore 이후로 갱신되지 않은 작업만 넘겨받는다
+    @Modifying
+    @Query("UPDATE UserOffboarding o " +
+            "SET o.status = org.example.expert.domain.user.enums.OffboardingStatus.RUNNING, o.modifiedAt = :now " +
+            "WHERE o.userId = :userId " +
+            "AND (o.status = org.example.expert.domain.user.enums.OffboardingStatus.FAILED " +
+            "OR (o.status = org.example.expert.domain.user.enums.OffboardingStatus.RUNNING AND o.modifiedAt < :staleBefore))")
+    int claim(@Param("userId") Long userId, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+}
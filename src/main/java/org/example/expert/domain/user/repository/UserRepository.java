@@ -1,11 +1,88 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.UserSecurityVersion;
+import org.example.expert.domain.user.dto.UserSummary;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
-    boolean existsByEmail(String email);
+    // 입력한 그대로의 이메일을 먼저 찾고, 없으면 정규화 컬럼의 유니크 인덱스로 대소문자 구분 없이 찾는다.
+    // 대소문자만 다른 기존 계정(백필에서 정규화 값을 받지 못한 행)이 다른 계정의 정규화 값에 가려지지 않게 하기 위함이다
+    default Optional<User> findByEmail(String email) {
+        Optional<User> user = findByEmailExact(email);
+        return user.isPresent() ? user : findByNormalizedEmail(User.normalizeEmail(email));
+    }
+
+    default boolean existsByEmail(String email) {
+        return existsByNormalizedEmail(User.normalizeEmail(email)) || existsByEmailExact(email);
+    }
+
+    Optional<User> findByNormalizedEmail(String normalizedEmail);
+    boolean existsByNormalizedEmail(String normalizedEmail);
+
+    @Query("SELECT u FROM User u WHERE u.email = :email")
+    Optional<User> findByEmailExact(@Param("email") String email);
+
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.email = :email")
+    boolean existsByEmailExact(@Param("email") String email);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.UserSummary(u.id, u.email, u.userRole) FROM User u " +
+            "WHERE u.id > :lastId ORDER BY u.id")
+    List<UserSummary> findSummariesAfter(@Param("lastId") Long lastId, Limit limit);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.UserSummary(u.id, u.email, u.userRole) FROM User u " +
+            "WHERE u.modifiedAt >= :since")
+    List<UserSummary> findSummariesModifiedSince(@Param("since") LocalDateTime since);
+
+    // 접두사 LIKE 는 normalized_email 유니크 인덱스의 범위 조회로 처리된다
+    @Query("SELECT new org.example.expert.domain.user.dto.UserSummary(u.id, u.email, u.userRole) FROM User u " +
+            "WHERE u.normalizedEmail LIKE :pattern ESCAPE '!' ORDER BY u.normalizedEmail")
+    List<UserSummary> findSummariesByNormalizedEmailLike(@Param("pattern") String pattern, Limit limit);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.UserSummary(u.id, u.email, u.userRole) FROM User u " +
+            "WHERE u.id > :lastId AND u.normalizedEmail IS NULL ORDER BY u.id")
+    List<UserSummary> findWithoutNormalizedEmailAfter(@Param("lastId") Long lastId, Limit limit);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.UserSummary(u.id, u.email, u.userRole) FROM User u WHERE u.id = :id")
+    Optional<UserSummary> findSummaryById(@Param("id") Long id);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.UserSummary(u.id, u.email, u.userRole) FROM User u WHERE u.id IN :ids")
+    List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.UserSecurityVersion(u.id, u.securityVersion, u.modifiedAt) " +
+            "FROM User u WHERE u.securityVersion > 0 AND u.modifiedAt >= :since")
+    List<UserSecurityVersion> findSecurityVersionsModifiedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("UPDATE User u SET u.securityVersion = u.securityVersion + 1, u.modifiedAt = :now WHERE u.id = :userId")
+    int bumpSecurityVersion(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 같은 트랜잭션의 bumpSecurityVersion 직후에 읽으면 자신이 올린 값을 반환한다
+    @Query("SELECT u.securityVersion FROM User u WHERE u.id = :userId")
+    long findSecurityVersionById(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :userId")
+    int purgeById(@Param("userId") Long userId);
+
+    // 역할이 실제로 바뀌는 유저만 갱신해 불필요하게 기존 토큰이 무효화되지 않도록 한다
+    @Modifying
+    @Query("UPDATE User u SET u.userRole = :role, u.securityVersion = u.securityVersion + 1, u.modifiedAt = :now " +
+            "WHERE u.id IN :ids AND u.userRole <> :role")
+    int updateRoleByIds(@Param("ids") Collection<Long> ids, @Param("role") UserRole role, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.userRole = :role, u.securityVersion = u.securityVersion + 1, u.modifiedAt = :now " +
+            "WHERE u.email LIKE :pattern ESCAPE '!' AND u.userRole <> :role")
+    int updateRoleByEmailLike(@Param("pattern") String pattern, @Param("role") UserRole role, @Param("now") LocalDateTime now);
 }
@@ -2,22 +2,71 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserBulkRoleChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserBulkRoleChangeResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final UserSecurityVersionRegistry securityVersionRegistry;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        // 읽고 더하지 않고 UPDATE 한 번으로 올려 동시 변경에서도 버전이 각각 증가하게 한다
+        userRepository.bumpSecurityVersion(userId, LocalDateTime.now());
+        userCache.invalidate(userId);
+        securityVersionRegistry.advance(userId, userRepository.findSecurityVersionById(userId));
+    }
+
+    // 엔티티를 읽지 않고 한 번의 UPDATE 로 역할과 보안 버전을 함께 변경한다
+    @Transactional
+    public UserBulkRoleChangeResponse changeUserRoles(UserBulkRoleChangeRequest request) {
+        UserRole role = UserRole.of(request.getRole());
+        boolean hasIds = request.getUserIds() != null && !request.getUserIds().isEmpty();
+        boolean hasPattern = StringUtils.hasText(request.getEmailPattern());
+        if (hasIds == hasPattern) {
+            throw new InvalidRequestException("userIds 와 emailPattern 중 하나만 지정해야 합니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated;
+        if (hasIds) {
+            List<Long> userIds = request.getUserIds().stream().distinct().toList();
+            updated = userRepository.updateRoleByIds(userIds, role, now);
+            userIds.forEach(userCache::invalidate);
+        } else {
+            updated = userRepository.updateRoleByEmailLike(toLikePattern(request.getEmailPattern()), role, now);
+            userCache.invalidateAll();
+        }
+        // 변경된 유저의 새 보안 버전은 커밋 후 증분 조회로 반영한다
+        securityVersionRegistry.refreshAfterCommit();
+        return new UserBulkRoleChangeResponse(updated);
+    }
+
+    // '*' 만 와일드카드로 취급하고 LIKE 특수문자는 이스케이프한다
+    private String toLikePattern(String emailPattern) {
+        String pattern = emailPattern.trim();
+        if (pattern.replace("*", "").isEmpty()) {
+            throw new InvalidRequestException("이메일 패턴에는 와일드카드 외의 문자가 포함되어야 합니다.");
+        }
+        return pattern.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_")
+                .replace("*", "%");
     }
 }
@@ -0,0 +1,118 @@
+package org.example.expert.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.example.expert.domain.user.dto.UserSummary;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저 조회 정보(id, email, role)를 담는 read-through 로컬 캐시.
+ * Caffeine 의 W-TinyLFU 정책으로 자주 조회되는 유저만 남기고, 크기와 TTL 로 메모리를 제한한다.
+ * 존재하지 않는 유저는 캐시하지 않는다.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserSummary> cache;
+    // 무효화 횟수 (일괄 로드 결과가 그 사이의 무효화를 덮어쓰지 않도록 확인한다)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserCache(
+            UserRepository userRepository,
+            @Value("${user.cache.max-size:10000}") long maxSize,
+            @Value("${user.cache.ttl:PT10M}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // 로드 중인 키의 무효화는 로드가 끝날 때까지 기다렸다가 지우므로, 이전 값이 다시 캐시되지 않는다
+    public Optional<UserSummary> get(long userId) {
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findSummaryById(id).orElse(null)));
+    }
+
+    // 캐시에 없는 유저만 한 번의 IN 조회로 채운다. 존재하지 않는 id 는 결과에서 빠진다
+    public Map<Long, UserSummary> getAll(Collection<Long> userIds) {
+        Map<Long, UserSummary> result = new HashMap<>(cache.getAllPresent(userIds));
+        List<Long> missing = userIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            // Caffeine 의 일괄 로드는 무효화와 원자적이지 않으므로, 조회 도중 무효화가 있었으면 결과를 캐시하지 않는다
+            long generation = invalidations.get();
+            for (UserSummary user : userRepository.findSummariesByIdIn(missing)) {
+                result.put(user.getId(), user);
+                cache.asMap().compute(user.getId(), (id, current) ->
+                        current != null ? current : invalidations.get() == generation ? user : null);
+            }
+        }
+        return result;
+    }
+
+    // 변경 중인 트랜잭션이 커밋되기 전에 다른 요청이 이전 값을 다시 채울 수 있으므로 커밋 후에도 한 번 더 비운다
+    public void invalidate(long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        evictAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAll();
+                }
+            });
+        }
+    }
+
+    // 횟수를 먼저 올려야 같은 키를 채우는 getAll 의 compute 가 무효화를 놓치지 않는다
+    private void evict(long userId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(userId);
+    }
+
+    private void evictAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public UserCacheStatsResponse getStats() {
+        CacheStats stats = cache.stats();
+        return new UserCacheStatsResponse(
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+}
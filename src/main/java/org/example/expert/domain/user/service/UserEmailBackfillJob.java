@@ -0,0 +1,116 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.UserSummary;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * users.normalized_email 이 비어 있는 기존 행을 id 순서의 작은 chunk 로 채운다.
+ * chunk 마다 짧은 트랜잭션으로 커밋하고 쉬어 가므로 users 테이블을 오래 잠그지 않는다.
+ * 대소문자만 다른 중복 이메일은 채우지 않고 남겨 두며(기존 email 인덱스로 계속 조회된다), 로그로 알린다.
+ */
+@Slf4j
+@Component
+public class UserEmailBackfillJob {
+
+    private final UserRepository userRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+
+    @Value("${user.email-backfill.enabled:true}")
+    private boolean enabled;
+    @Value("${user.email-backfill.chunk-size:1000}")
+    private int chunkSize;
+    @Value("${user.email-backfill.throttle-millis:100}")
+    private long throttleMillis;
+
+    public UserEmailBackfillJob(
+            UserRepository userRepository,
+            UserJdbcRepository userJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor
+    ) {
+        this.userRepository = userRepository;
+        this.userJdbcRepository = userJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            taskExecutor.execute(this::backfill);
+        }
+    }
+
+    public long backfill() {
+        long lastId = 0L;
+        long updated = 0;
+        long skipped = 0;
+
+        while (true) {
+            List<UserSummary> users = userRepository.findWithoutNormalizedEmailAfter(lastId, Limit.of(chunkSize));
+            if (users.isEmpty()) {
+                break;
+            }
+
+            try {
+                int[] counts = transactionTemplate.execute(status -> userJdbcRepository.updateNormalizedEmails(users));
+                updated += sum(counts);
+            } catch (DataIntegrityViolationException e) {
+                // chunk 안에 정규화 값이 겹치는 행이 있으면 해당 chunk 만 한 행씩 다시 처리한다
+                for (UserSummary user : users) {
+                    try {
+                        Integer count = transactionTemplate.execute(status -> userJdbcRepository.updateNormalizedEmail(user));
+                        updated += count == null ? 0 : count;
+                    } catch (DataIntegrityViolationException duplicate) {
+                        skipped++;
+                        log.warn("정규화 이메일 중복으로 백필 제외 - User ID : {}", user.getId());
+                    }
+                }
+            }
+
+            lastId = users.get(users.size() - 1).getId();
+            if (!throttle()) {
+                break;
+            }
+        }
+
+        log.info("정규화 이메일 백필 완료 - 갱신 : {}, 중복 제외 : {}", updated, skipped);
+        return updated;
+    }
+
+    private long sum(int[] counts) {
+        long total = 0;
+        if (counts != null) {
+            for (int count : counts) {
+                // 드라이버가 행 수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 1건으로 센다
+                total += count < 0 ? 1 : count;
+            }
+        }
+        return total;
+    }
+
+    private boolean throttle() {
+        try {
+            Thread.sleep(throttleMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.UserSummary;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 정규화 이메일 → 유저 id 를 정렬된 상태로 메모리에 보관해 이메일 접두사 검색(자동완성)을 DB 조회 없이 처리한다.
+ * 대소문자만 다른 기존 유저가 서로 덮어쓰지 않도록 키는 "정규화 이메일 + 구분자 + 유저 id" 로 만들고, 유저 id → 키 역색인으로 이전 키를 지운다.
+ * 시작 시 id 순서의 chunk 로 전체를 적재하고, 이후에는 가입/삭제를 바로 반영하며 다른 인스턴스의 변경은 modifiedAt 기준 증분 조회로 반영한다.
+ * 적재 전이거나 유저 수가 max-entries 를 넘으면 검색하지 않고 호출자가 DB 범위 조회로 대신하도록 한다.
+ */
+@Slf4j
+@Component
+public class UserEmailPrefixIndex {
+
+    // 이메일에 올 수 없는 가장 작은 문자라 같은 이메일의 키가 더 긴 이메일보다 앞에 정렬된다
+    private static final char KEY_SEPARATOR = '\0';
+
+    private final UserRepository userRepository;
+    private final TaskExecutor taskExecutor;
+
+    @Value("${user.email-index.enabled:true}")
+    private boolean enabled;
+    @Value("${user.email-index.max-entries:1000000}")
+    private int maxEntries;
+    @Value("${user.email-index.load-chunk-size:5000}")
+    private int loadChunkSize;
+    @Value("${user.email-index.refresh-overlap:PT30S}")
+    private Duration overlap;
+
+    private volatile ConcurrentSkipListMap<String, Long> index = new ConcurrentSkipListMap<>();
+    private volatile ConcurrentHashMap<Long, String> keysById = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private volatile LocalDateTime lastRefreshedAt;
+
+    public UserEmailPrefixIndex(
+            UserRepository userRepository,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor
+    ) {
+        this.userRepository = userRepository;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            taskExecutor.execute(this::rebuild);
+        }
+    }
+
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        ConcurrentSkipListMap<String, Long> loaded = new ConcurrentSkipListMap<>();
+        ConcurrentHashMap<Long, String> loadedKeys = new ConcurrentHashMap<>();
+        long lastId = 0L;
+        while (true) {
+            List<UserSummary> users = userRepository.findSummariesAfter(lastId, Limit.of(loadChunkSize));
+            if (users.isEmpty()) {
+                break;
+            }
+            for (UserSummary user : users) {
+                String key = key(user.getEmail(), user.getId());
+                loaded.put(key, user.getId());
+                loadedKeys.put(user.getId(), key);
+            }
+            if (loaded.size() > maxEntries) {
+                ready = false;
+                log.warn("유저 수가 이메일 접두사 인덱스 한도({})를 넘어 DB 조회를 사용합니다.", maxEntries);
+                return;
+            }
+            lastId = users.get(users.size() - 1).getId();
+        }
+        synchronized (this) {
+            index = loaded;
+            keysById = loadedKeys;
+        }
+        lastRefreshedAt = startedAt;
+        ready = true;
+        log.info("이메일 접두사 인덱스 적재 완료 - 유저 수 : {}", loaded.size());
+    }
+
+    // 적재 이후 다른 인스턴스에서 가입하거나 이메일을 바꾼 유저를 반영한다
+    @Scheduled(fixedDelayString = "${user.email-index.refresh-millis:5000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        for (UserSummary user : userRepository.findSummariesModifiedSince(lastRefreshedAt.minus(overlap))) {
+            put(user.getId(), user.getEmail());
+        }
+        lastRefreshedAt = startedAt;
+    }
+
+    /**
+     * 접두사로 시작하는 정규화 이메일의 유저를 이메일 순서로 최대 limit 개 반환한다.
+     * afterKey 가 있으면 그 키 다음부터 이어서 읽는다. 인덱스를 사용할 수 없으면 빈 값을 반환한다.
+     */
+    public Optional<List<Match>> search(String normalizedPrefix, String afterKey, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        NavigableMap<String, Long> tail = afterKey == null ? index.tailMap(normalizedPrefix, true) : index.tailMap(afterKey, false);
+        List<Match> matches = new ArrayList<>(limit);
+        for (Map.Entry<String, Long> entry : tail.entrySet()) {
+            if (matches.size() >= limit || !entry.getKey().startsWith(normalizedPrefix)) {
+                break;
+            }
+            matches.add(new Match(entry.getKey(), entry.getValue()));
+        }
+        return Optional.of(matches);
+    }
+
+    public void add(long userId, String email) {
+        afterCommit(() -> put(userId, email));
+    }
+
+    // 다른 인스턴스에서 삭제된 유저는 refresh 로 알 수 없으므로, 검색 중 존재하지 않는 것으로 확인되면 호출한다
+    public void remove(long userId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                String key = keysById.remove(userId);
+                if (key != null) {
+                    index.remove(key);
+                }
+            }
+        });
+    }
+
+    // 이메일이 바뀐 유저는 이전 키를 지워 한 유저가 한 번만 검색되게 한다
+    private synchronized void put(long userId, String email) {
+        String key = key(email, userId);
+        String previous = keysById.put(userId, key);
+        if (previous != null && !previous.equals(key)) {
+            index.remove(previous);
+        }
+        index.put(key, userId);
+    }
+
+    private static String key(String email, long userId) {
+        return User.normalizeEmail(email) + KEY_SEPARATOR + userId;
+    }
+
+    // key 는 다음 구간을 이어서 읽을 때의 기준
+    public record Match(String key, long userId) {
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
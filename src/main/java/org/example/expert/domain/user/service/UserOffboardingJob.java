@@ -0,0 +1,268 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.request.UserOffboardingRequest;
+import org.example.expert.domain.user.dto.response.UserOffboardingStatusResponse;
+import org.example.expert.domain.user.entity.UserOffboarding;
+import org.example.expert.domain.user.enums.OffboardingPhase;
+import org.example.expert.domain.user.enums.OffboardingStatus;
+import org.example.expert.domain.user.repository.UserOffboardingRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저 탈퇴 처리. 소유 일정의 댓글 삭제 → 소유 일정 삭제(또는 다른 유저에게 이관) → 작성 댓글 삭제 → 담당자 등록 삭제 → 유저 삭제 순으로
+ * chunk 단위 트랜잭션에서 실행하고, 각 chunk 와 같은 트랜잭션에 체크포인트(UserOffboarding)를 남긴다.
+ * 실패하거나 중단된 작업은 같은 요청을 다시 보내면 마지막 체크포인트부터 이어서 실행된다.
+ * 실행 중인 작업은 체크포인트가 stale-after 동안 갱신되지 않았을 때만 다른 요청이 넘겨받는다.
+ */
+@Slf4j
+@Component
+public class UserOffboardingJob {
+
+    private final UserRepository userRepository;
+    private final UserOffboardingRepository offboardingRepository;
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoMembershipIndex todoMembershipIndex;
+    private final UserCache userCache;
+    private final UserSecurityVersionRegistry securityVersionRegistry;
+    private final UserEmailPrefixIndex userEmailPrefixIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+
+    @Value("${user.offboarding.chunk-size:500}")
+    private int chunkSize;
+    @Value("${user.offboarding.stale-after:PT5M}")
+    private Duration staleAfter;
+
+    // 이 인스턴스에서 실행 중인 작업 (같은 유저의 작업이 동시에 두 번 실행되지 않도록 한다)
+    private final Set<Long> active = ConcurrentHashMap.newKeySet();
+
+    public UserOffboardingJob(
+            UserRepository userRepository,
+            UserOffboardingRepository offboardingRepository,
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            TodoMembershipIndex todoMembershipIndex,
+            UserCache userCache,
+            UserSecurityVersionRegistry securityVersionRegistry,
+            UserEmailPrefixIndex userEmailPrefixIndex,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor
+    ) {
+        this.userRepository = userRepository;
+        this.offboardingRepository = offboardingRepository;
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.todoMembershipIndex = todoMembershipIndex;
+        this.userCache = userCache;
+        this.securityVersionRegistry = securityVersionRegistry;
+        this.userEmailPrefixIndex = userEmailPrefixIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public UserOffboardingStatusResponse start(long userId, UserOffboardingRequest request) {
+        Long reassignToUserId = request == null ? null : request.getReassignToUserId();
+        UserOffboarding offboarding;
+        try {
+            offboarding = transactionTemplate.execute(status -> prepare(userId, reassignToUserId));
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 탈퇴 처리 중인 유저입니다.");
+        }
+        launch(userId);
+        return toResponse(offboarding);
+    }
+
+    public UserOffboardingStatusResponse getStatus(long userId) {
+        return offboardingRepository.findByUserId(userId)
+                .map(UserOffboardingJob::toResponse)
+                .orElseThrow(() -> new InvalidRequestException("탈퇴 처리 이력이 없습니다."));
+    }
+
+    private UserOffboarding prepare(long userId, Long reassignToUserId) {
+        UserOffboarding existing = offboardingRepository.findByUserId(userId).orElse(null);
+        if (existing != null) {
+            if (existing.getStatus() == OffboardingStatus.COMPLETED) {
+                throw new InvalidRequestException("이미 탈퇴 처리된 유저입니다.");
+            }
+            // 다른 인스턴스가 실행 중인 작업은 조건부 UPDATE 로 넘겨받지 못하므로 같은 작업이 동시에 두 번 실행되지 않는다
+            LocalDateTime now = LocalDateTime.now();
+            if (offboardingRepository.claim(userId, now, now.minus(staleAfter)) == 0) {
+                throw new InvalidRequestException("이미 탈퇴 처리 중인 유저입니다.");
+            }
+            // 체크포인트 이후부터 재개하며, 일정 처리 방식은 처음 요청을 따른다
+            existing.resume();
+            return existing;
+        }
+
+        if (!userRepository.existsById(userId)) {
+            throw new InvalidRequestException("User not found");
+        }
+        if (reassignToUserId != null) {
+            if (reassignToUserId == userId) {
+                throw new InvalidRequestException("탈퇴하는 유저에게 일정을 넘길 수 없습니다.");
+            }
+            if (!userRepository.existsById(reassignToUserId)) {
+                throw new InvalidRequestException("일정을 넘겨받을 유저가 존재하지 않습니다.");
+            }
+        }
+
+        // 처리 중에 새 데이터가 생기지 않도록 기존 토큰부터 무효화한다
+        userRepository.bumpSecurityVersion(userId, LocalDateTime.now());
+        securityVersionRegistry.advance(userId, UserSecurityVersionRegistry.REVOKED);
+        userCache.invalidate(userId);
+        return offboardingRepository.save(new UserOffboarding(userId, reassignToUserId));
+    }
+
+    private void launch(long userId) {
+        if (!active.add(userId)) {
+            return;
+        }
+        taskExecutor.execute(() -> {
+            try {
+                run(userId);
+            } finally {
+                active.remove(userId);
+            }
+        });
+    }
+
+    void run(long userId) {
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(userId)))) {
+                // 다음 chunk
+            }
+            log.info("유저 탈퇴 처리 완료 - User ID : {}", userId);
+        } catch (RuntimeException e) {
+            log.error("유저 탈퇴 처리 실패 - User ID : {}", userId, e);
+            transactionTemplate.executeWithoutResult(status ->
+                    offboardingRepository.findByUserId(userId).ifPresent(offboarding -> offboarding.fail(e.getMessage())));
+        }
+    }
+
+    // chunk 하나를 처리하고 같은 트랜잭션에서 체크포인트를 갱신한다. 남은 작업이 없으면 false
+    private boolean processChunk(long userId) {
+        UserOffboarding offboarding = offboardingRepository.findByUserId(userId).orElseThrow();
+        switch (offboarding.getPhase()) {
+            case TODO_COMMENTS -> processTodoComments(offboarding);
+            case TODOS -> processTodos(offboarding);
+            case COMMENTS -> processComments(offboarding);
+            case MANAGERS -> processManagers(offboarding);
+            case USER -> {
+                userEmailPrefixIndex.remove(userId);
+                userRepository.purgeById(userId);
+                userCache.invalidate(userId);
+                offboarding.nextPhase();
+            }
+            case DONE -> {
+                return false;
+            }
+        }
+        return offboarding.getPhase() != OffboardingPhase.DONE;
+    }
+
+    // 일정을 지울 때만 필요하다. 댓글이 많은 일정도 한 트랜잭션에서 chunk 크기만큼만 지운다
+    private void processTodoComments(UserOffboarding offboarding) {
+        if (offboarding.getReassignToUserId() != null) {
+            offboarding.nextPhase();
+            return;
+        }
+        List<Long> commentIds = commentRepository.findAllIdsOnTodosOwnedByAfter(
+                offboarding.getUserId(), offboarding.getLastProcessedId(), chunkSize);
+        if (commentIds.isEmpty()) {
+            offboarding.nextPhase();
+            return;
+        }
+
+        int deleted = commentRepository.purgeByIds(commentIds);
+        offboarding.checkpoint(commentIds.get(commentIds.size() - 1), deleted);
+    }
+
+    private void processTodos(UserOffboarding offboarding) {
+        List<Long> todoIds = todoRepository.findAllOwnedIdsAfter(offboarding.getUserId(), offboarding.getLastProcessedId(), chunkSize);
+        if (todoIds.isEmpty()) {
+            offboarding.nextPhase();
+            return;
+        }
+
+        Long reassignToUserId = offboarding.getReassignToUserId();
+        if (reassignToUserId == null) {
+            // 댓글은 앞 단계에서 지웠으므로 그 사이에 달린 댓글만 남아 있다
+            commentRepository.purgeByTodoIds(todoIds);
+            managerRepository.purgeByTodoIds(todoIds);
+            todoRepository.purgeByIds(todoIds);
+        } else {
+            todoRepository.reassignOwner(todoIds, reassignToUserId);
+            managerRepository.insertMissingManagers(todoIds, reassignToUserId);
+            todoRepository.recountManagers(todoIds);
+        }
+        todoIds.forEach(todoMembershipIndex::invalidate);
+        offboarding.checkpoint(todoIds.get(todoIds.size() - 1), todoIds.size());
+    }
+
+    private void processComments(UserOffboarding offboarding) {
+        List<Long> commentIds = commentRepository.findAllIdsByUserIdAfter(offboarding.getUserId(), offboarding.getLastProcessedId(), chunkSize);
+        if (commentIds.isEmpty()) {
+            offboarding.nextPhase();
+            return;
+        }
+
+        List<Long> todoIds = commentRepository.findAllTodoIdsByIds(commentIds);
+        int deleted = commentRepository.purgeByIds(commentIds);
+        todoRepository.recountComments(todoIds);
+        offboarding.checkpoint(commentIds.get(commentIds.size() - 1), deleted);
+    }
+
+    private void processManagers(UserOffboarding offboarding) {
+        List<Long> managerIds = managerRepository.findIdsByUserIdAfter(
+                offboarding.getUserId(), offboarding.getLastProcessedId(), Limit.of(chunkSize));
+        if (managerIds.isEmpty()) {
+            offboarding.nextPhase();
+            return;
+        }
+
+        List<Long> todoIds = managerRepository.findTodoIdsByIds(managerIds);
+        int deleted = managerRepository.deleteByIds(managerIds);
+        todoRepository.recountManagers(todoIds);
+        todoIds.forEach(todoMembershipIndex::invalidate);
+        offboarding.checkpoint(managerIds.get(managerIds.size() - 1), deleted);
+    }
+
+    private static UserOffboardingStatusResponse toResponse(UserOffboarding offboarding) {
+        return new UserOffboardingStatusResponse(
+                offboarding.getUserId(),
+                offboarding.getReassignToUserId(),
+                offboarding.getStatus(),
+                offboarding.getPhase(),
+                offboarding.getLastProcessedId(),
+                offboarding.getProcessedTodos(),
+                offboarding.getProcessedComments(),
+                offboarding.getProcessedManagers(),
+                offboarding.getErrorMessage(),
+                offboarding.getCreatedAt(),
+                offboarding.getModifiedAt()
+        );
+    }
+}
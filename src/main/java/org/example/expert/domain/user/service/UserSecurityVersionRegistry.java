@@ -0,0 +1,104 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.UserSecurityVersion;
+import org.example.expert.domain.user.repository.UserOffboardingRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 보안 버전(users.security_version)을 메모리에 보관해 JwtFilter 가 요청마다 DB 를 조회하지 않고
+ * 역할/비밀번호 변경 이전에 발급된 토큰을 거부할 수 있게 한다.
+ * 버전이 0 인 유저는 보관하지 않으며, 다른 인스턴스의 변경은 modifiedAt 기준 증분 조회로 반영한다.
+ * 탈퇴 처리가 시작된 유저는 유저 행이 삭제된 뒤에도 user_offboardings 기준으로 모든 토큰을 거부한다.
+ */
+@Slf4j
+@Component
+public class UserSecurityVersionRegistry {
+
+    private final UserRepository userRepository;
+    private final UserOffboardingRepository offboardingRepository;
+    private final Duration overlap;
+
+    // 탈퇴 처리된 유저의 버전. 어떤 토큰도 이 값에 도달할 수 없다
+    static final long REVOKED = Long.MAX_VALUE;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastRefreshedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public UserSecurityVersionRegistry(
+            UserRepository userRepository,
+            UserOffboardingRepository offboardingRepository,
+            @Value("${user.security-version.refresh-overlap:PT30S}") Duration overlap
+    ) {
+        this.userRepository = userRepository;
+        this.offboardingRepository = offboardingRepository;
+        this.overlap = overlap;
+    }
+
+    @PostConstruct
+    void load() {
+        refresh();
+    }
+
+    // modifiedAt 은 커밋보다 먼저 기록되므로 직전 조회 시각보다 overlap 만큼 앞에서부터 다시 읽는다
+    @Scheduled(fixedDelayString = "${user.security-version.refresh-millis:5000}")
+    public void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastRefreshedAt.minus(overlap);
+        List<UserSecurityVersion> changed = userRepository.findSecurityVersionsModifiedSince(since);
+        for (UserSecurityVersion user : changed) {
+            versions.merge(user.getId(), user.getSecurityVersion(), Math::max);
+        }
+        for (Long userId : offboardingRepository.findUserIdsStartedSince(since)) {
+            versions.put(userId, REVOKED);
+        }
+        lastRefreshedAt = startedAt;
+        if (!changed.isEmpty()) {
+            log.debug("보안 버전 갱신 - 변경된 유저 수 : {}", changed.size());
+        }
+    }
+
+    // 대상 id 를 알 수 없는 일괄 변경 이후 증분 조회를 바로 실행한다
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    public boolean isCurrent(long userId, long tokenVersion) {
+        return tokenVersion >= versions.getOrDefault(userId, 0L);
+    }
+
+    // 롤백된 변경으로 유효한 토큰이 거부되지 않도록 커밋 이후에 반영한다
+    public void advance(long userId, long securityVersion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.merge(userId, securityVersion, Math::max);
+                }
+            });
+        } else {
+            versions.merge(userId, securityVersion, Math::max);
+        }
+    }
+}
@@ -3,26 +3,124 @@ package org.example.expert.domain.user.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserSummary;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.response.UserBatchResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_SEARCH_SIZE = 20;
+    private static final int SEARCH_OVERFETCH = 2;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final UserSecurityVersionRegistry securityVersionRegistry;
+    private final UserEmailPrefixIndex userEmailPrefixIndex;
 
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회한다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
+        UserSummary user = userCache.get(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
+    // 캐시에 없는 유저만 한 번의 IN 조회로 채우고, 요청 순서대로 응답한다
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserBatchResponse getUsers(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty() || userIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("ids는 1개 이상 " + MAX_BATCH_SIZE + "개 이하여야 합니다.");
+        }
+        // ids=1,,2 처럼 빈 값이 섞이면 null 로 변환된다
+        if (userIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("ids에 비어 있는 값이 있습니다.");
+        }
+        List<Long> distinctIds = userIds.stream().distinct().toList();
+        Map<Long, UserSummary> found = userCache.getAll(distinctIds);
+
+        List<UserResponse> users = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long userId : distinctIds) {
+            UserSummary user = found.get(userId);
+            if (user == null) {
+                missingIds.add(userId);
+            } else {
+                users.add(new UserResponse(user.getId(), user.getEmail()));
+            }
+        }
+        return new UserBatchResponse(users, missingIds);
+    }
+
+    // 메모리 접두사 인덱스로 찾고, 인덱스가 준비되지 않았으면 정규화 이메일 인덱스 범위 조회로 대신한다
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<UserResponse> searchByEmailPrefix(String prefix, int size) {
+        String normalizedPrefix = User.normalizeEmail(prefix);
+        if (normalizedPrefix == null || normalizedPrefix.isEmpty()) {
+            throw new InvalidRequestException("검색할 이메일을 입력해 주세요.");
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+
+        int fetchSize = size * SEARCH_OVERFETCH;
+        Optional<List<UserEmailPrefixIndex.Match>> indexed = userEmailPrefixIndex.search(normalizedPrefix, null, fetchSize);
+        if (indexed.isEmpty()) {
+            return userRepository.findSummariesByNormalizedEmailLike(escapeLike(normalizedPrefix) + "%", Limit.of(size))
+                    .stream()
+                    .map(user -> new UserResponse(user.getId(), user.getEmail()))
+                    .toList();
+        }
+
+        // 삭제되었거나 이메일이 바뀐 유저가 인덱스에 남아 있을 수 있으므로 현재 값으로 거르고,
+        // 걸러진 만큼 모자라면 마지막 키 다음 구간을 더 읽는다
+        List<UserResponse> responses = new ArrayList<>(size);
+        Set<Long> seen = new HashSet<>();
+        List<UserEmailPrefixIndex.Match> matches = indexed.get();
+        while (true) {
+            Map<Long, UserSummary> users = userCache.getAll(matches.stream().map(UserEmailPrefixIndex.Match::userId).toList());
+            for (UserEmailPrefixIndex.Match match : matches) {
+                UserSummary user = users.get(match.userId());
+                if (user == null) {
+                    // 다른 인스턴스에서 삭제된 유저는 다음 검색부터 DB 를 다시 조회하지 않도록 인덱스에서 뺀다
+                    userEmailPrefixIndex.remove(match.userId());
+                    continue;
+                }
+                if (!User.normalizeEmail(user.getEmail()).startsWith(normalizedPrefix) || !seen.add(user.getId())) {
+                    continue;
+                }
+                responses.add(new UserResponse(user.getId(), user.getEmail()));
+                if (responses.size() == size) {
+                    return responses;
+                }
+            }
+            if (matches.size() < fetchSize) {
+                return responses;
+            }
+            String lastKey = matches.get(matches.size() - 1).key();
+            matches = userEmailPrefixIndex.search(normalizedPrefix, lastKey, fetchSize).orElse(List.of());
+        }
+    }
+
     @Transactional
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         User user = userRepository.findById(userId)
@@ -35,6 +133,10 @@ public class UserService {
         validateOldPassword(oldPassword, user.getPassword());
 
         user.changePassword(passwordEncoder.encode(newPassword));
+        // 읽고 더하지 않고 UPDATE 한 번으로 올려 동시 변경에서도 버전이 각각 증가하게 한다
+        userRepository.bumpSecurityVersion(userId, LocalDateTime.now());
+        userCache.invalidate(userId);
+        securityVersionRegistry.advance(userId, userRepository.findSecurityVersionById(userId));
     }
 
     private void validateNewPassword(String newPassword, String currentEncodedPassword){
@@ -51,6 +153,13 @@ public class UserService {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
     }
+
+    private String escapeLike(String value) {
+        return value.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+
     private boolean isPasswordValid(String password){
         return password.length() >= 8 &&
                 password.matches(".*\\d.*") &&
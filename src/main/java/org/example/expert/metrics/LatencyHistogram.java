@@ -0,0 +1,86 @@
+package org.example.expert.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HDR 방식의 로그-선형 지연 시간 히스토그램.
+ * 2의 거듭제곱 구간마다 32개의 하위 구간을 두어 상대 오차를 약 3% 로 유지한다.
+ * 기록은 AtomicLongArray 의 원자적 증가만 사용하므로 잠금과 객체 생성이 없다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // 이보다 긴 값은 마지막 구간에 모은다 (max 는 실제 값을 유지)
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int BUCKET_COUNT = indexOf(HIGHEST_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        counts.incrementAndGet(indexOf(Math.min(value, HIGHEST_TRACKABLE_NANOS)));
+        totalCount.incrementAndGet();
+        long currentMax;
+        while (value > (currentMax = maxNanos.get()) && !maxNanos.compareAndSet(currentMax, value)) {
+            // 다른 스레드가 먼저 갱신했으면 다시 비교한다
+        }
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * 주어진 분위수(0~1)에 해당하는 값을 구간 상한으로 반환한다. 기록 중에 읽어도 되며, 그 경우 근사값이다.
+     */
+    public long valueAtQuantile(double quantile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                // 마지막 구간에는 한도를 넘은 값도 모여 있으므로 실제 최댓값으로 답한다
+                return i == BUCKET_COUNT - 1 ? maxNanos.get() : Math.min(highestValueAt(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        long lowest = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.LogAdminAccess;
+import org.example.expert.metrics.dto.RouteLatencyResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final RequestLatencyInterceptor requestLatencyInterceptor;
+
+    @LogAdminAccess
+    @GetMapping("/admin/metrics/latency")
+    public ResponseEntity<List<RouteLatencyResponse>> getLatencies() {
+        return ResponseEntity.ok(requestLatencyInterceptor.getLatencies());
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.expert.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.metrics.dto.RouteLatencyResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 모든 컨트롤러 요청의 처리 시간을 System.nanoTime 으로 재서 HTTP 메서드, 라우트 템플릿, 상태 코드별 히스토그램에 기록한다.
+ * 라우트 템플릿(/todos/{todoId})을 키로 쓰므로 경로 변수 값이 늘어나도 히스토그램 수는 늘지 않는다.
+ * 처음 보는 라우트/상태 코드에서만 히스토그램을 만들고, 이후 기록은 잠금과 객체 생성 없이 처리한다.
+ */
+@Component
+public class RequestLatencyInterceptor implements HandlerInterceptor {
+
+    private static final String START_NANOS_ATTRIBUTE = RequestLatencyInterceptor.class.getName() + ".startNanos";
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+    private static final int STATUS_CODE_LIMIT = 600;
+
+    // HTTP 메서드 → 라우트 템플릿 → 상태 코드별 히스토그램
+    private final Map<String, Map<String, AtomicReferenceArray<LatencyHistogram>>> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 요청의 재디스패치에서는 처음 시작 시각을 유지한다
+        if (request.getAttribute(START_NANOS_ATTRIBUTE) == null) {
+            request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(START_NANOS_ATTRIBUTE) instanceof Long startNanos)) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern == null ? UNMATCHED_ROUTE : pattern.toString();
+        int status = response.getStatus();
+        if (ex != null && status < 400) {
+            // 예외가 응답 코드로 바뀌기 전이면 서버 오류로 기록한다
+            status = 500;
+        }
+        histogram(request.getMethod(), route, status).record(elapsedNanos);
+    }
+
+    private LatencyHistogram histogram(String method, String route, int status) {
+        // 조회가 대부분이므로 get 으로 먼저 찾고, 없을 때만 computeIfAbsent 로 만든다
+        Map<String, AtomicReferenceArray<LatencyHistogram>> routes = histograms.get(method);
+        if (routes == null) {
+            routes = histograms.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+        AtomicReferenceArray<LatencyHistogram> byStatus = routes.get(route);
+        if (byStatus == null) {
+            byStatus = routes.computeIfAbsent(route, key -> new AtomicReferenceArray<>(STATUS_CODE_LIMIT));
+        }
+
+        int index = status >= 0 && status < STATUS_CODE_LIMIT ? status : 0;
+        LatencyHistogram histogram = byStatus.get(index);
+        if (histogram == null) {
+            LatencyHistogram created = new LatencyHistogram();
+            histogram = byStatus.compareAndSet(index, null, created) ? created : byStatus.get(index);
+        }
+        return histogram;
+    }
+
+    public List<RouteLatencyResponse> getLatencies() {
+        List<RouteLatencyResponse> latencies = new ArrayList<>();
+        histograms.forEach((method, routes) -> routes.forEach((route, byStatus) -> {
+            for (int status = 0; status < byStatus.length(); status++) {
+                LatencyHistogram histogram = byStatus.get(status);
+                if (histogram != null) {
+                    latencies.add(toResponse(method, route, status, histogram));
+                }
+            }
+        }));
+        latencies.sort(Comparator.comparing(RouteLatencyResponse::getRoute)
+                .thenComparing(RouteLatencyResponse::getMethod)
+                .thenComparingInt(RouteLatencyResponse::getStatus));
+        return latencies;
+    }
+
+    private static RouteLatencyResponse toResponse(String method, String route, int status, LatencyHistogram histogram) {
+        return new RouteLatencyResponse(
+                method,
+                route,
+                status,
+                histogram.getTotalCount(),
+                toMicros(histogram.valueAtQuantile(0.5)),
+                toMicros(histogram.valueAtQuantile(0.99)),
+                toMicros(histogram.valueAtQuantile(0.999)),
+                toMicros(histogram.getMaxNanos())
+        );
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.metrics.dto;
+
+import lombok.Getter;
+
+@Getter
+public class RouteLatencyResponse {
+
+    private final String method;
+    private final String route;
+    private final int status;
+    private final long count;
+    private final long p50Micros;
+    private final long p99Micros;
+    private final long p999Micros;
+    private final long maxMicros;
+
+    public RouteLatencyResponse(String method, String route, int status, long count,
+                                long p50Micros, long p99Micros, long p999Micros, long maxMicros) {
+        this.method = method;
+        this.route = route;
+        this.status = status;
+        this.count = count;
+        this.p50Micros = p50Micros;
+        this.p99Micros = p99Micros;
+        this.p999Micros = p999Micros;
+        this.maxMicros = maxMicros;
+    }
+}
@@ -11,6 +11,8 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserEmailPrefixIndex;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,11 +20,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -37,6 +41,9 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserEmailPrefixIndex userEmailPrefixIndex;
+
     @InjectMocks
     private AuthService authService;
 
@@ -48,12 +55,12 @@ class AuthServiceTest {
             // given
             SignupRequest request = new SignupRequest("test@example.com", "password", "USER");
             User savedUser = new User("test@example.com", "encodedPassword", UserRole.USER);
+            savedUser.setId(1L);
             String token = "Bearer token";
 
-            given(userRepository.existsByEmail(request.getEmail())).willReturn(false);
             given(passwordEncoder.encode(request.getPassword())).willReturn("encodedPassword");
             given(userRepository.save(any(User.class))).willReturn(savedUser);
-            given(jwtUtil.createToken(any(), any(), any())).willReturn(token);
+            given(jwtUtil.createToken(any(), any(), any(), anyLong())).willReturn(token);
 
             // when
             SignupResponse response = authService.signup(request);
@@ -62,6 +69,7 @@ class AuthServiceTest {
             assertNotNull(response);
             assertEquals(token, response.getBearerToken());
             verify(userRepository).save(any(User.class));
+            verify(userEmailPrefixIndex).add(1L, "test@example.com");
         }
         @Test
         void 이메일이_null이거나_비어있을_경우_예외가_발생한다(){
@@ -78,7 +86,9 @@ class AuthServiceTest {
         void 존재하는_이메일로_회원가입_시_예외가_발생한다(){
             // given
             SignupRequest request = new SignupRequest("test@example.com", "password", "USER");
-            given(userRepository.existsByEmail(request.getEmail())).willReturn(true);
+            given(passwordEncoder.encode(request.getPassword())).willReturn("encodedPassword");
+            given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("uk_users_email",
+                    new ConstraintViolationException("duplicate", null, ConstraintViolationException.ConstraintKind.UNIQUE, "uk_users_email")));
 
             // when & then
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -86,6 +96,18 @@ class AuthServiceTest {
             assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
         }
 
+        @Test
+        void 이메일_중복이_아닌_무결성_오류는_그대로_전파된다(){
+            // given
+            SignupRequest request = new SignupRequest("test@example.com", "password", "USER");
+            given(passwordEncoder.encode(request.getPassword())).willReturn("encodedPassword");
+            given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("not null",
+                    new ConstraintViolationException("not null", null, ConstraintViolationException.ConstraintKind.OTHER, null)));
+
+            // when & then
+            assertThrows(DataIntegrityViolationException.class, () -> authService.signup(request));
+        }
+
         @Test
         void 비밀번호가_null이거나_비어있을_경우_예외가_발생한다(){
             // given
@@ -110,7 +132,7 @@ class AuthServiceTest {
 
             given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
             given(passwordEncoder.matches(request.getPassword(), user.getPassword())).willReturn(true);
-            given(jwtUtil.createToken(any(), any(), any())).willReturn(token);
+            given(jwtUtil.createToken(any(), any(), any(), anyLong())).willReturn(token);
 
             // when
             SigninResponse response = authService.signin(request);
@@ -6,8 +6,12 @@ import org.example.expert.config.GlobalExceptionHandler;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentThreadResponse;
+import org.example.expert.domain.comment.service.CommentBatchWriter;
 import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentStreamService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.manager.controller.ManagerController;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
@@ -19,6 +23,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Arrays;
@@ -30,6 +35,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CommentController.class)
@@ -43,6 +49,12 @@ class CommentControllerTest {
     @MockBean
     private CommentService commentService;
 
+    @MockBean
+    private CommentStreamService commentStreamService;
+
+    @MockBean
+    private CommentBatchWriter commentBatchWriter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -69,10 +81,15 @@ class CommentControllerTest {
         given(resolver.resolveArgument(any(), any(), any(), any())).willReturn(authUser);
         given(commentService.saveComment(eq(authUser), eq(todoId), any(CommentSaveRequest.class))).willReturn(response);
 
-        // when & then
-        mockMvc.perform(post("/todos/{todoId}/comments", todoId)
+        // when
+        MvcResult result = mockMvc.perform(post("/todos/{todoId}/comments", todoId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(response)));
     }
@@ -87,11 +104,30 @@ class CommentControllerTest {
                 new CommentResponse(2L, "test 2", userResponse)
         );
 
-        given(commentService.getComments(todoId)).willReturn(commentList);
+        CursorResponse<CommentResponse> response = new CursorResponse<>(commentList, null, false);
+
+        given(commentService.getComments(todoId, null, 20)).willReturn(response);
 
         // when & then
         mockMvc.perform(get("/todos/{todoId}/comments", todoId))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(commentList)));
+                .andExpect(content().json(objectMapper.writeValueAsString(response)));
+    }
+
+    @Test
+    void 댓글_스레드_조회에_성공한다() throws Exception{
+        // given
+        long todoId = 1L;
+        UserResponse userResponse = new UserResponse(1L, "user@example.com");
+        CommentThreadResponse root = new CommentThreadResponse(1L, "root", userResponse, 0);
+        root.getReplies().add(new CommentThreadResponse(2L, "reply", userResponse, 1));
+
+        given(commentService.getThread(todoId, 1L, 2)).willReturn(root);
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments/{commentId}/thread", todoId, 1L)
+                        .param("depth", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(root)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package org.example.expert.domain.comment.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Nested
+    class findDescendantsTest {
+        @Test
+        void 경로가_없는_기존_루트_댓글의_답글을_경로_순서와_깊이_제한으로_조회한다() {
+            // given
+            User user = new User("user@example.com", "password", UserRole.USER);
+            em.persist(user);
+            Todo todo = new Todo("title", "contents", "Sunny", user);
+            em.persist(todo);
+            Comment legacyRoot = new Comment("legacy", user, todo);
+            em.persist(legacyRoot);
+            Comment otherRoot = save(new Comment("other", user, todo), null);
+            Comment child1 = save(new Comment("child1", user, todo, legacyRoot), legacyRoot);
+            Comment grandChild = save(new Comment("grandChild", user, todo, child1), child1);
+            save(new Comment("otherChild", user, todo, otherRoot), otherRoot);
+            Comment child2 = save(new Comment("child2", user, todo, legacyRoot), legacyRoot);
+            em.clear();
+            String rootPath = legacyRoot.getThreadPath();
+
+            // when
+            List<Comment> all = commentRepository.findDescendants(todo.getId(), rootPath, Comment.pathUpperBound(rootPath), 5);
+            List<Comment> children = commentRepository.findDescendants(todo.getId(), rootPath, Comment.pathUpperBound(rootPath), 1);
+
+            // then
+            assertThat(all).extracting(Comment::getId).containsExactly(child1.getId(), grandChild.getId(), child2.getId());
+            assertThat(children).extracting(Comment::getId).containsExactly(child1.getId(), child2.getId());
+        }
+
+        @Test
+        void 하위_답글_조회는_일정_경로_인덱스를_사용한다() {
+            String plan = String.valueOf(em.createNativeQuery("EXPLAIN SELECT c.id FROM comments c " +
+                    "WHERE c.todo_id = 1 AND c.path > '000000000001/' AND c.path < '0000000000010' " +
+                    "ORDER BY c.path").getSingleResult());
+
+            assertThat(plan).containsIgnoringCase("idx_comments_todo_path");
+        }
+
+        private Comment save(Comment comment, Comment parent) {
+            em.persist(comment);
+            comment.assignPath(parent == null ? null : parent.getThreadPath());
+            em.flush();
+            return comment;
+        }
+    }
+}
@@ -1,25 +1,47 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentAdminServiceTest {
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -29,13 +51,91 @@ class CommentAdminServiceTest {
         void 정상적으로_댓글을_삭제한다(){
             // given
             long commentId = 1L;
+            long todoId = 2L;
+            User user = new User("user@example.com", "password", UserRole.USER);
+            Todo todo = new Todo("title", "contents", "Sunny", user);
+            ReflectionTestUtils.setField(todo, "id", todoId);
+            Comment comment = new Comment("contents", user, todo);
+
+            given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
+
+            // when
+            commentAdminService.deleteComment(commentId);
+
+            // then
+            assertNotNull(comment.getDeletedAt());
+            verify(todoRepository).addCommentCount(todoId, -1);
+        }
+
+        @Test
+        void 존재하지_않는_댓글은_카운터를_변경하지_않는다(){
+            // given
+            long commentId = 1L;
+            given(commentRepository.findById(commentId)).willReturn(Optional.empty());
 
             // when
             commentAdminService.deleteComment(commentId);
 
             // then
-            verify(commentRepository).deleteById(commentId);
-            assertTrue(true, "댓글이 성공적으로 삭제되었습니다.");
+            then(todoRepository).should(never()).addCommentCount(anyLong(), anyLong());
+        }
+    }
+
+    @Nested
+    class bulkDeleteTest{
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(commentAdminService, "chunkSize", 2);
+            given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                    invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        }
+
+        @Test
+        void id_목록을_chunk_단위로_삭제하고_댓글_수를_다시_계산한다(){
+            // given
+            given(commentRepository.findTodoIdsByIds(List.of(1L, 2L))).willReturn(List.of(10L));
+            given(commentRepository.findTodoIdsByIds(List.of(3L))).willReturn(List.of(20L));
+            given(commentRepository.softDeleteByIds(eq(List.of(1L, 2L)), any())).willReturn(2);
+            given(commentRepository.softDeleteByIds(eq(List.of(3L)), any())).willReturn(1);
+
+            // when
+            CommentBulkDeleteResponse response = commentAdminService.deleteComments(List.of(1L, 2L, 3L, 3L));
+
+            // then
+            assertEquals(3, response.getDeletedCount());
+            verify(todoRepository).recountComments(List.of(10L));
+            verify(todoRepository).recountComments(List.of(20L));
+        }
+
+        @Test
+        void 작성자의_댓글을_남은_대상이_없을_때까지_삭제한다(){
+            // given
+            long userId = 1L;
+            given(commentRepository.findIdsByUserId(userId, Limit.of(2)))
+                    .willReturn(List.of(1L, 2L))
+                    .willReturn(List.of(3L))
+                    .willReturn(List.of());
+            given(commentRepository.findTodoIdsByIds(any())).willReturn(List.of(10L));
+            given(commentRepository.softDeleteByIds(any(), any())).willReturn(2, 1);
+
+            // when
+            CommentBulkDeleteResponse response = commentAdminService.deleteCommentsByUser(userId);
+
+            // then
+            assertEquals(3, response.getDeletedCount());
+            verify(commentRepository, times(3)).findIdsByUserId(userId, Limit.of(2));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void 시작_시각이_종료_시각보다_늦으면_예외가_발생한다(){
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 2, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentAdminService.deleteCommentsByTodo(1L, from, to));
+        assertEquals("조회 시작 시각이 종료 시각보다 늦습니다.", exception.getMessage());
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.service.CommentBatchWriter.PendingComment;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentBatchWriterTest {
+
+    @Mock
+    private CommentService commentService;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @InjectMocks
+    private CommentBatchWriter commentBatchWriter;
+
+    private final AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+    private final BlockingQueue<PendingComment> queue = new LinkedBlockingQueue<>(2);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentBatchWriter, "queue", queue);
+    }
+
+    @Test
+    void 담당자가_아니면_큐에_넣지_않고_예외가_발생한다() {
+        // given
+        doThrow(new InvalidRequestException("관리자만 댓글을 추가할 수 있습니다."))
+                .when(commentService).validateCommentPermission(1L, 1L);
+
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> commentBatchWriter.submit(authUser, 1L, new CommentSaveRequest("contents")));
+    }
+
+    @Test
+    void 배치_저장이_실패하면_모든_요청이_예외로_완료된다() {
+        // given
+        CompletableFuture<CommentSaveResponse> future =
+                commentBatchWriter.submit(authUser, 1L, new CommentSaveRequest("contents"));
+        PendingComment pending = queue.poll();
+        given(transactionTemplate.execute(any())).willThrow(new IllegalStateException("db down"));
+
+        // when
+        commentBatchWriter.flush(List.of(pending));
+
+        // then
+        assertTrue(future.isCompletedExceptionally());
+        verify(eventPublisher, never()).publishEvent(any(CommentSavedEvent.class));
+    }
+
+    @Test
+    void 배치_저장이_실패하면_한_건씩_다시_저장해_실패한_요청만_예외로_완료된다() {
+        // given
+        CompletableFuture<CommentSaveResponse> valid =
+                commentBatchWriter.submit(authUser, 1L, new CommentSaveRequest("valid"));
+        CompletableFuture<CommentSaveResponse> invalid =
+                commentBatchWriter.submit(authUser, 2L, new CommentSaveRequest("deleted todo"));
+        List<PendingComment> batch = List.of(queue.poll(), queue.poll());
+        CommentSaveResponse saved = new CommentSaveResponse(10L, "valid", null);
+        given(transactionTemplate.execute(any()))
+                .willThrow(new IllegalStateException("fk violation"))
+                .willReturn(List.of(saved))
+                .willThrow(new IllegalStateException("fk violation"));
+
+        // when
+        commentBatchWriter.flush(batch);
+
+        // then
+        assertEquals(saved, valid.join());
+        assertTrue(invalid.isCompletedExceptionally());
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentPathBackfillJobTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private CommentPathBackfillJob commentPathBackfillJob;
+
+    @BeforeEach
+    void setUp() {
+        commentPathBackfillJob = new CommentPathBackfillJob(commentRepository, jdbcTemplate, transactionTemplate, Runnable::run);
+        ReflectionTestUtils.setField(commentPathBackfillJob, "chunkSize", 2);
+        ReflectionTestUtils.setField(commentPathBackfillJob, "throttleMillis", 0L);
+        willAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void 경로가_없는_루트_댓글을_chunk_단위로_이어서_채운다() {
+        // given
+        given(commentRepository.findRootIdsWithoutPathAfter(0L, 2)).willReturn(List.of(1L, 2L));
+        given(commentRepository.findRootIdsWithoutPathAfter(2L, 2)).willReturn(List.of(7L));
+        given(commentRepository.findRootIdsWithoutPathAfter(7L, 2)).willReturn(List.of());
+
+        // when
+        long updated = commentPathBackfillJob.backfill();
+
+        // then
+        assertEquals(3L, updated);
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(List.of(1L, 2L)), eq(2), ArgumentMatchers.<ParameterizedPreparedStatementSetter<Long>>any());
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(List.of(7L)), eq(1), ArgumentMatchers.<ParameterizedPreparedStatementSetter<Long>>any());
+    }
+}
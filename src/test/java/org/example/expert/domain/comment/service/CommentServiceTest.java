@@ -3,12 +3,16 @@ package org.example.expert.domain.comment.service;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentThreadResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
-import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -16,11 +20,15 @@ import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -39,6 +47,10 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoMembershipIndex todoMembershipIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private CommentService commentService;
 
@@ -51,7 +63,8 @@ class CommentServiceTest {
             CommentSaveRequest request = new CommentSaveRequest("contents");
             AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-            given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+            given(todoMembershipIndex.isManager(todoId, authUser.getId())).willReturn(false);
+            given(todoRepository.existsById(todoId)).willReturn(false);
 
             // when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -68,19 +81,9 @@ class CommentServiceTest {
             long todoId = 1L;
             CommentSaveRequest request = new CommentSaveRequest("contents");
             AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
-            User user = User.fromAuthUser(authUser);
-            User managerUser = new User("manager@example.com", "password", UserRole.USER);
-            ReflectionTestUtils.setField(managerUser, "id", 2L);
-
-            Todo todo = new Todo("title", "title", "contents", managerUser);
-            ReflectionTestUtils.setField(todo, "id", todoId);
 
-            // manager 리스트 초기화 및 설정
-            List<Manager> managers = new ArrayList<>();
-            managers.add(new Manager(managerUser, todo));
-            ReflectionTestUtils.setField(todo, "managers", managers);
-
-            given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+            given(todoMembershipIndex.isManager(todoId, authUser.getId())).willReturn(false);
+            given(todoRepository.existsById(todoId)).willReturn(true);
 
             // when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->{
@@ -101,8 +104,10 @@ class CommentServiceTest {
             Todo todo = new Todo("title", "title", "contents", user);
             ReflectionTestUtils.setField(todo, "id", todoId);
             Comment comment = new Comment(request.getContents(), user, todo);
+            ReflectionTestUtils.setField(comment, "id", 5L);
 
-            given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+            given(todoMembershipIndex.isManager(todoId, authUser.getId())).willReturn(true);
+            given(todoRepository.getReferenceById(todoId)).willReturn(todo);
             given(commentRepository.save(any())).willReturn(comment);
 
             // when
@@ -110,6 +115,118 @@ class CommentServiceTest {
 
             // then
             assertNotNull(result);
+            verify(todoRepository).addCommentCount(todoId, 1);
+            verify(eventPublisher).publishEvent(any(CommentSavedEvent.class));
+            assertEquals("000000000005/", comment.getPath());
+        }
+    }
+
+    @Nested
+    class saveReply {
+        @Test
+        void 부모_경로_아래에_답글을_등록한다() {
+            // given
+            long todoId = 1L;
+            AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+            User user = User.fromAuthUser(authUser);
+            Todo todo = new Todo("title", "contents", "Sunny", user);
+            ReflectionTestUtils.setField(todo, "id", todoId);
+
+            Comment parent = new Comment("parent", user, todo);
+            ReflectionTestUtils.setField(parent, "id", 12L);
+            parent.assignPath(null);
+
+            given(todoMembershipIndex.isManager(todoId, authUser.getId())).willReturn(true);
+            given(commentRepository.findById(12L)).willReturn(Optional.of(parent));
+            given(commentRepository.save(any())).willAnswer(invocation -> {
+                Comment reply = invocation.getArgument(0);
+                ReflectionTestUtils.setField(reply, "id", 34L);
+                return reply;
+            });
+
+            // when
+            CommentSaveResponse result = commentService.saveReply(authUser, todoId, 12L, new CommentSaveRequest("reply"));
+
+            // then
+            assertEquals(34L, result.getId());
+            ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
+            verify(commentRepository).save(captor.capture());
+            Comment reply = captor.getValue();
+            assertEquals(12L, reply.getParentId());
+            assertEquals(1, reply.getDepth());
+            assertEquals("000000000012/000000000034/", reply.getPath());
+            verify(todoRepository).addCommentCount(todoId, 1);
+        }
+
+        @Test
+        void 최대_깊이의_댓글에는_답글을_달_수_없다() {
+            // given
+            long todoId = 1L;
+            AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+            User user = User.fromAuthUser(authUser);
+            Todo todo = new Todo("title", "contents", "Sunny", user);
+            ReflectionTestUtils.setField(todo, "id", todoId);
+
+            Comment parent = new Comment("parent", user, todo);
+            ReflectionTestUtils.setField(parent, "depth", Comment.MAX_DEPTH);
+
+            given(todoMembershipIndex.isManager(todoId, authUser.getId())).willReturn(true);
+            given(commentRepository.findById(12L)).willReturn(Optional.of(parent));
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> commentService.saveReply(authUser, todoId, 12L, new CommentSaveRequest("reply")));
+            assertEquals("답글은 최대 20단계까지 작성할 수 있습니다.", exception.getMessage());
+        }
+    }
+
+    @Nested
+    class getThread {
+        @Test
+        void 경로_순서로_조회한_댓글을_트리로_조립한다() {
+            // given
+            long todoId = 1L;
+            User user = new User("user@example.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 1L);
+            Todo todo = new Todo("title", "contents", "Sunny", user);
+
+            Comment root = threadComment(1L, null, 0, user, todo);
+            Comment child1 = threadComment(2L, 1L, 1, user, todo);
+            Comment grandChild = threadComment(4L, 2L, 2, user, todo);
+            Comment child2 = threadComment(3L, 1L, 1, user, todo);
+
+            given(commentRepository.findWithUserByIdAndTodoId(1L, todoId)).willReturn(Optional.of(root));
+            given(commentRepository.findDescendants(todoId, "000000000001/", "0000000000010", 20))
+                    .willReturn(List.of(child1, grandChild, child2));
+
+            // when
+            CommentThreadResponse result = commentService.getThread(todoId, 1L, 20);
+
+            // then
+            assertEquals(1L, result.getId());
+            assertEquals(2, result.getReplies().size());
+            assertEquals(2L, result.getReplies().get(0).getId());
+            assertEquals(4L, result.getReplies().get(0).getReplies().get(0).getId());
+            assertEquals(3L, result.getReplies().get(1).getId());
+        }
+
+        @Test
+        void 스레드가_없으면_예외가_발생한다() {
+            // given
+            given(commentRepository.findWithUserByIdAndTodoId(1L, 1L)).willReturn(Optional.empty());
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> commentService.getThread(1L, 1L, 20));
+            assertEquals("Comment not found", exception.getMessage());
+        }
+
+        private Comment threadComment(long id, Long parentId, int depth, User user, Todo todo) {
+            Comment comment = new Comment("Comment " + id, user, todo);
+            ReflectionTestUtils.setField(comment, "id", id);
+            ReflectionTestUtils.setField(comment, "parentId", parentId);
+            ReflectionTestUtils.setField(comment, "depth", depth);
+            return comment;
         }
     }
     @Nested
@@ -136,15 +253,18 @@ class CommentServiceTest {
 
             List<Comment> commentList = Arrays.asList(comment1, comment2);
 
-            given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+            given(commentRepository.findByTodoIdWithUser(todoId, Limit.of(11))).willReturn(commentList);
 
             // when
-            List<CommentResponse> result = commentService.getComments(todoId);
+            CursorResponse<CommentResponse> cursorResponse = commentService.getComments(todoId, null, 10);
+            List<CommentResponse> result = cursorResponse.getContent();
 
             // then
-            verify(commentRepository).findByTodoIdWithUser(todoId);
+            verify(commentRepository).findByTodoIdWithUser(todoId, Limit.of(11));
 
             assertEquals(2, result.size());
+            assertFalse(cursorResponse.isHasNext());
+            assertNull(cursorResponse.getNextCursor());
 
             CommentResponse response1 = result.get(0);
             assertEquals(1L, response1.getId());
@@ -164,15 +284,55 @@ class CommentServiceTest {
             // given
             long todoId = 1L;
 
-            given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(List.of());
+            given(commentRepository.findByTodoIdWithUser(todoId, Limit.of(11))).willReturn(List.of());
 
             // when
-            List<CommentResponse> result = commentService.getComments(todoId);
+            CursorResponse<CommentResponse> result = commentService.getComments(todoId, null, 10);
 
             // then
-            verify(commentRepository).findByTodoIdWithUser(todoId);
+            verify(commentRepository).findByTodoIdWithUser(todoId, Limit.of(11));
+
+            assertTrue(result.getContent().isEmpty());
+        }
+
+        @Test
+        void 다음_페이지가_있으면_마지막_댓글로_커서를_만든다(){
+            // given
+            long todoId = 1L;
+            LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+            User user = new User("user1@example.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 1L);
+            Todo todo = new Todo("Test Todo", "Test Content", "Sunny", user);
 
-            assertTrue(result.isEmpty());
+            List<Comment> commentList = new ArrayList<>();
+            for (long id = 1; id <= 3; id++) {
+                Comment comment = new Comment("Comment " + id, user, todo);
+                ReflectionTestUtils.setField(comment, "id", id);
+                ReflectionTestUtils.setField(comment, "createdAt", createdAt);
+                commentList.add(comment);
+            }
+
+            KeysetCursor cursor = new KeysetCursor(createdAt, 10L);
+            given(commentRepository.findByTodoIdWithUserAfter(todoId, createdAt, 10L, Limit.of(3))).willReturn(commentList);
+
+            // when
+            CursorResponse<CommentResponse> result = commentService.getComments(todoId, cursor.encode(), 2);
+
+            // then
+            assertEquals(2, result.getContent().size());
+            assertTrue(result.isHasNext());
+            KeysetCursor next = KeysetCursor.decode(result.getNextCursor());
+            assertEquals(createdAt, next.getAt());
+            assertEquals(2L, next.getId());
+        }
+
+        @Test
+        void 페이지_크기가_허용_범위를_벗어나면_예외가_발생한다(){
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> commentService.getComments(1L, null, 101));
+            assertEquals("size는 1 이상 100 이하여야 합니다.", exception.getMessage());
         }
     }
 }
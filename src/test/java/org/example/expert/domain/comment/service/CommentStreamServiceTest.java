@@ -0,0 +1,168 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentStreamServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+
+    private CommentStreamService commentStreamService;
+
+    @BeforeEach
+    void setUp() {
+        // 전송 작업을 직접 실행할 수 있도록 큐에만 쌓는다
+        TaskExecutor taskExecutor = pendingTasks::add;
+        commentStreamService = new CommentStreamService(commentRepository, taskExecutor);
+        ReflectionTestUtils.setField(commentStreamService, "bufferSize", 2);
+    }
+
+    @Test
+    void 구독한_일정의_댓글_이벤트가_전송된다() {
+        // given
+        commentStreamService.subscribe(1L, null);
+
+        // when
+        commentStreamService.onCommentSaved(new CommentSavedEvent(1L, comment(1L)));
+        commentStreamService.onCommentSaved(new CommentSavedEvent(2L, comment(2L)));
+
+        // then
+        assertEquals(1, pendingTasks.size());
+        pendingTasks.remove(0).run();
+        assertEquals(1, commentStreamService.subscriberCount(1L));
+    }
+
+    @Test
+    void 버퍼가_가득_찬_느린_구독자는_연결이_끊긴다() {
+        // given
+        commentStreamService.subscribe(1L, null);
+
+        // when
+        commentStreamService.onCommentSaved(new CommentSavedEvent(1L, comment(1L)));
+        commentStreamService.onCommentSaved(new CommentSavedEvent(1L, comment(2L)));
+        commentStreamService.onCommentSaved(new CommentSavedEvent(1L, comment(3L)));
+
+        // then
+        assertEquals(0, commentStreamService.subscriberCount(1L));
+    }
+
+    @Test
+    void Last_Event_ID_이후_댓글을_다시_보낸다() {
+        // given
+        User user = new User("user@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Comment missed = new Comment("missed", user, new Todo("title", "contents", "Sunny", user));
+        ReflectionTestUtils.setField(missed, "id", 6L);
+        given(commentRepository.findByTodoIdWithUserAfterId(1L, 5L, Limit.of(2))).willReturn(List.of(missed));
+
+        // when
+        commentStreamService.subscribe(1L, 5L);
+
+        // then
+        verify(commentRepository).findByTodoIdWithUserAfterId(1L, 5L, Limit.of(2));
+        assertEquals(1, pendingTasks.size());
+    }
+
+    @Test
+    void 재전송이_한_페이지를_넘으면_따라잡을_때까지_이어서_보낸다() {
+        // given
+        User user = new User("user@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+        given(commentRepository.findByTodoIdWithUserAfterId(1L, 5L, Limit.of(2)))
+                .willReturn(List.of(saved(6L, user, todo), saved(7L, user, todo)));
+        given(commentRepository.findByTodoIdWithUserAfterId(1L, 7L, Limit.of(2)))
+                .willReturn(List.of(saved(8L, user, todo)));
+
+        // when
+        commentStreamService.subscribe(1L, 5L);
+        commentStreamService.onCommentSaved(new CommentSavedEvent(1L, comment(9L)));
+        pendingTasks.remove(0).run();
+
+        // then
+        verify(commentRepository).findByTodoIdWithUserAfterId(1L, 7L, Limit.of(2));
+        assertEquals(1, commentStreamService.subscriberCount(1L));
+    }
+
+    @Test
+    void 커밋_순서가_id_순서와_달라도_실시간_댓글을_모두_보낸다() {
+        // given
+        SseEmitter emitter = commentStreamService.subscribe(1L, null);
+
+        // when: id 102 가 101 보다 먼저 커밋된다
+        commentStreamService.onCommentSaved(new CommentSavedEvent(1L, comment(102L)));
+        pendingTasks.remove(0).run();
+        commentStreamService.onCommentSaved(new CommentSavedEvent(1L, comment(101L)));
+        pendingTasks.remove(0).run();
+
+        // then
+        assertEquals(List.of(102L, 101L), sentIds(emitter));
+    }
+
+    @Test
+    void 재전송한_댓글만_실시간_이벤트에서_거른다() {
+        // given
+        User user = new User("user@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+        given(commentRepository.findByTodoIdWithUserAfterId(1L, 5L, Limit.of(2)))
+                .willReturn(List.of(saved(7L, user, todo)));
+
+        // when: 재전송 목록에 든 7 과 늦게 커밋된 6 이 buffer 에 들어온다
+        SseEmitter emitter = commentStreamService.subscribe(1L, 5L);
+        commentStreamService.onCommentSaved(new CommentSavedEvent(1L, comment(7L)));
+        commentStreamService.onCommentSaved(new CommentSavedEvent(1L, comment(6L)));
+        pendingTasks.remove(0).run();
+
+        // then
+        assertEquals(List.of(7L, 6L), sentIds(emitter));
+    }
+
+    // 핸들러가 연결되기 전의 전송은 emitter 내부에 쌓이므로 그 안의 댓글 id 를 순서대로 꺼낸다
+    private List<Long> sentIds(SseEmitter emitter) {
+        Set<?> sent = (Set<?>) ReflectionTestUtils.getField(emitter, "earlySendAttempts");
+        return sent.stream()
+                .map(data -> ((ResponseBodyEmitter.DataWithMediaType) data).getData())
+                .filter(CommentResponse.class::isInstance)
+                .map(data -> ((CommentResponse) data).getId())
+                .toList();
+    }
+
+    private Comment saved(long id, User user, Todo todo) {
+        Comment comment = new Comment("contents " + id, user, todo);
+        ReflectionTestUtils.setField(comment, "id", id);
+        return comment;
+    }
+
+    private CommentResponse comment(long id) {
+        return new CommentResponse(id, "contents " + id, new UserResponse(1L, "user@example.com"));
+    }
+}
@@ -5,9 +5,15 @@ import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.GlobalExceptionHandler;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagedTodoResponse;
+import org.example.expert.domain.manager.dto.response.ManagerAssignResult;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
 import org.example.expert.domain.manager.service.ManagerService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
@@ -88,6 +94,47 @@ class ManagerControllerTest {
 
         verify(managerService).saveManager(eq(authUser), eq(todoId), any(ManagerSaveRequest.class));
     }
+    @Test
+    void 매니저_일괄_등록에_성공한다() throws Exception {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(2L, 3L));
+        ManagerBulkSaveResponse response = new ManagerBulkSaveResponse(1, List.of(
+                new ManagerAssignResult(2L, ManagerAssignStatus.ASSIGNED, 10L),
+                new ManagerAssignResult(3L, ManagerAssignStatus.USER_NOT_FOUND, null)
+        ));
+
+        given(resolver.supportsParameter(any())).willReturn(true);
+        given(resolver.resolveArgument(any(), any(), any(), any())).willReturn(authUser);
+        given(managerService.saveManagers(authUser, todoId, List.of(2L, 3L))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/todos/{todoId}/managers/bulk", todoId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignedCount").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("ASSIGNED"))
+                .andExpect(jsonPath("$.results[0].managerId").value(10L))
+                .andExpect(jsonPath("$.results[1].status").value("USER_NOT_FOUND"));
+    }
+
+    @Test
+    void 유저가_담당한_일정_목록_조회에_성공한다() throws Exception {
+        // given
+        long userId = 2L;
+        CursorResponse<ManagedTodoResponse> response = new CursorResponse<>(
+                List.of(new ManagedTodoResponse(10L, "title", "Sunny", 1L, 3, 2, null)), null, false);
+        given(managerService.getManagedTodos(userId, null, 20)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/users/{userId}/managed-todos", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].todoId").value(10L))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
     @Test
     void 매니저_생성_실패_유효하지_않은_요청() throws Exception {
         // given
@@ -1,17 +1,25 @@
 package org.example.expert.domain.manager.service;
 
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagedTodoResponse;
+import org.example.expert.domain.manager.dto.response.ManagerAssignResult;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
+import org.example.expert.domain.manager.repository.ManagerJdbcRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.UserSummary;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,14 +27,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,9 +52,103 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoMembershipIndex todoMembershipIndex;
+    @Mock
+    private ManagerJdbcRepository managerJdbcRepository;
+    @Mock
+    private UserCache userCache;
     @InjectMocks
     private ManagerService managerService;
 
+    @Nested
+    class saveManagersTest{
+        @Test
+        void 유저별_결과와_함께_일괄_등록한다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            User owner = User.fromAuthUser(authUser);
+            long todoId = 1L;
+            Todo todo = new Todo("Test Title", "Test Contents", "Sunny", owner);
+
+            User user2 = new User("b@b.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(user2, "id", 2L);
+            User user3 = new User("c@c.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(user3, "id", 3L);
+            User user4 = new User("d@d.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(user4, "id", 4L);
+
+            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(userCache.getAll(List.of(1L, 2L, 3L, 4L, 5L))).willReturn(Map.of(
+                    1L, summary(owner), 2L, summary(user2), 3L, summary(user3), 4L, summary(user4)));
+            given(todoMembershipIndex.isManager(todoId, 2L)).willReturn(false);
+            given(todoMembershipIndex.isManager(todoId, 3L)).willReturn(true);
+            given(todoMembershipIndex.isManager(todoId, 4L)).willReturn(false);
+            given(managerJdbcRepository.insertAll(todoId, List.of(2L, 4L))).willReturn(List.of(20L, 40L));
+
+            // when
+            ManagerBulkSaveResponse response = managerService.saveManagers(authUser, todoId, List.of(1L, 2L, 3L, 4L, 5L, 2L));
+
+            // then
+            assertEquals(2, response.getAssignedCount());
+            List<ManagerAssignResult> results = response.getResults();
+            assertEquals(6, results.size());
+            assertEquals(ManagerAssignStatus.SELF_ASSIGNMENT, results.get(0).getStatus());
+            assertEquals(ManagerAssignStatus.ASSIGNED, results.get(1).getStatus());
+            assertEquals(20L, results.get(1).getManagerId());
+            assertEquals(ManagerAssignStatus.ALREADY_ASSIGNED, results.get(2).getStatus());
+            assertEquals(40L, results.get(3).getManagerId());
+            assertEquals(ManagerAssignStatus.USER_NOT_FOUND, results.get(4).getStatus());
+            assertEquals(20L, results.get(5).getManagerId());
+            verify(todoRepository).addManagerCount(todoId, 2);
+            verify(todoMembershipIndex).addMember(todoId, 2L);
+            verify(todoMembershipIndex).addMember(todoId, 4L);
+        }
+
+        @Test
+        void 비어_있는_유저_id가_있으면_예외가_발생한다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> managerService.saveManagers(authUser, 1L, Arrays.asList(2L, null)));
+            assertEquals("담당자 유저 id는 비어 있을 수 없습니다.", exception.getMessage());
+            verify(todoRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        void 동시_요청과_겹치면_한_건씩_다시_등록하고_새로_등록한_수만_센다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            long todoId = 1L;
+            Todo todo = new Todo("Test Title", "Test Contents", "Sunny", User.fromAuthUser(authUser));
+
+            User user2 = new User("b@b.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(user2, "id", 2L);
+            User user3 = new User("c@c.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(user3, "id", 3L);
+
+            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(userCache.getAll(List.of(2L, 3L))).willReturn(Map.of(2L, summary(user2), 3L, summary(user3)));
+            given(managerJdbcRepository.insertAll(todoId, List.of(2L, 3L))).willThrow(new DuplicateKeyException("uk_managers"));
+            given(managerJdbcRepository.insertIfAbsent(todoId, 2L)).willReturn(Optional.of(20L));
+            given(managerJdbcRepository.insertIfAbsent(todoId, 3L)).willReturn(Optional.empty());
+            given(managerRepository.findIdByTodoIdAndUserIdForUpdate(todoId, 3L)).willReturn(Optional.of(30L));
+
+            // when
+            ManagerBulkSaveResponse response = managerService.saveManagers(authUser, todoId, List.of(2L, 3L));
+
+            // then
+            assertEquals(1, response.getAssignedCount());
+            assertEquals(ManagerAssignStatus.ASSIGNED, response.getResults().get(0).getStatus());
+            assertEquals(20L, response.getResults().get(0).getManagerId());
+            assertEquals(ManagerAssignStatus.ALREADY_ASSIGNED, response.getResults().get(1).getStatus());
+            assertEquals(30L, response.getResults().get(1).getManagerId());
+            verify(todoRepository).addManagerCount(todoId, 1);
+        }
+    }
+
     @Nested
     class saveManagerTest{
         @Test // 테스트코드 샘플
@@ -59,14 +167,17 @@ class ManagerServiceTest {
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
             given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
-            given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(userCache.get(managerUserId)).willReturn(Optional.of(summary(managerUser)));
+            given(managerJdbcRepository.insertIfAbsent(todoId, managerUserId)).willReturn(Optional.of(10L));
 
             // when
             ManagerSaveResponse response = managerService.saveManager(authUser, todoId, managerSaveRequest);
 
             // then
             assertNotNull(response);
+            assertEquals(10L, response.getId());
+            verify(todoRepository).addManagerCount(todoId, 1);
+            verify(todoMembershipIndex).addMember(todoId, managerUserId);
             assertEquals(managerUser.getId(), response.getUser().getId());
             assertEquals(managerUser.getEmail(), response.getUser().getEmail());
         }
@@ -130,7 +241,7 @@ class ManagerServiceTest {
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
             given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(userRepository.findById(managerUserId)).willReturn(Optional.empty());
+            given(userCache.get(managerUserId)).willReturn(Optional.empty());
 
             // when & then
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -154,7 +265,7 @@ class ManagerServiceTest {
 
 
             given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(userRepository.findById(userId)).willReturn(Optional.of(todoOwner));
+            given(userCache.get(userId)).willReturn(Optional.of(summary(todoOwner)));
 
             // when & then
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -164,6 +275,36 @@ class ManagerServiceTest {
         }
     }
 
+    @Nested
+    class duplicateManagerTest{
+        @Test
+        void 이미_등록된_담당자면_기존_담당자를_반환한다(){
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            long todoId = 1L;
+            long managerUserId = 2L;
+
+            Todo todo = new Todo("Title", "content", "Sunny", User.fromAuthUser(authUser));
+            ReflectionTestUtils.setField(todo, "id", todoId);
+
+            User managerUser = new User("b@b.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+
+            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(userCache.get(managerUserId)).willReturn(Optional.of(summary(managerUser)));
+            given(managerJdbcRepository.insertIfAbsent(todoId, managerUserId)).willReturn(Optional.empty());
+            given(managerRepository.findIdByTodoIdAndUserIdForUpdate(todoId, managerUserId)).willReturn(Optional.of(10L));
+
+            // when
+            ManagerSaveResponse response = managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId));
+
+            // then
+            assertEquals(10L, response.getId());
+            verify(todoRepository, never()).addManagerCount(anyLong(), anyLong());
+            verify(todoMembershipIndex, never()).addMember(anyLong(), anyLong());
+        }
+    }
+
     @Nested
     class getManagerTest{
         @Test // 테스트코드 샘플
@@ -201,6 +342,38 @@ class ManagerServiceTest {
         }
     }
 
+    @Nested
+    class getManagedTodosTest{
+        @Test
+        void 다음_페이지가_있으면_마지막_일정_id로_커서를_만든다() {
+            // given
+            long userId = 2L;
+            LocalDateTime now = LocalDateTime.now();
+            List<ManagedTodoResponse> rows = List.of(
+                    new ManagedTodoResponse(30L, "t30", "Sunny", 1L, 0, 2, now),
+                    new ManagedTodoResponse(20L, "t20", "Sunny", 1L, 0, 2, now),
+                    new ManagedTodoResponse(10L, "t10", "Sunny", 1L, 0, 2, now)
+            );
+            given(managerRepository.findManagedTodosAfter(userId, 40L, Limit.of(3))).willReturn(rows);
+
+            // when
+            CursorResponse<ManagedTodoResponse> response = managerService.getManagedTodos(userId, "40", 2);
+
+            // then
+            assertEquals(2, response.getContent().size());
+            assertTrue(response.isHasNext());
+            assertEquals("20", response.getNextCursor());
+        }
+
+        @Test
+        void 잘못된_커서면_예외가_발생한다() {
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    managerService.getManagedTodos(2L, "abc", 10));
+            assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+        }
+    }
+
     @Nested
     class deleteManagerTest{
         @Test
@@ -210,24 +383,14 @@ class ManagerServiceTest {
             long todoId = 1L;
             long managerId = 1L;
 
-            User user = new User("user1@example.com", "password", UserRole.USER);
-            ReflectionTestUtils.setField(user, "id", userId);
-
-            Todo todo = new Todo("Title", "content", "Sunny", user);
-            ReflectionTestUtils.setField(todo, "id", todoId);
-
-            Manager manager = new Manager(user, todo);
-            ReflectionTestUtils.setField(manager, "id", managerId);
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
+            given(managerRepository.deleteOwnedManager(managerId, todoId, userId)).willReturn(1);
 
             // when
             managerService.deleteManager(userId, todoId, managerId);
 
             // then
-            verify(managerRepository).delete(manager);
+            verify(todoRepository).addManagerCount(todoId, -1);
+            verify(todoMembershipIndex).invalidate(todoId);
         }
         @Test
         void 존재하지_않은_유저로_담당자_삭제_시도_시_예외가_발생한다(){
@@ -236,6 +399,8 @@ class ManagerServiceTest {
             long todoId = 1L;
             long managerId = 1L;
 
+            given(managerRepository.deleteOwnedManager(managerId, todoId, userId)).willReturn(0);
+
             given(userRepository.findById(userId)).willReturn(Optional.empty());
 
             // when & then
@@ -253,6 +418,8 @@ class ManagerServiceTest {
             User user = new User("user1@example.com", "password", UserRole.USER);
             ReflectionTestUtils.setField(user, "id", userId);
 
+            given(managerRepository.deleteOwnedManager(managerId, todoId, userId)).willReturn(0);
+
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
             given(todoRepository.findById(todoId)).willReturn(Optional.empty());
 
@@ -274,6 +441,8 @@ class ManagerServiceTest {
             Todo todo = new Todo("Title", "content", "Sunny", null);
             ReflectionTestUtils.setField(todo, "id", todoId);
 
+            given(managerRepository.deleteOwnedManager(managerId, todoId, userId)).willReturn(0);
+
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
             given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
 
@@ -299,6 +468,8 @@ class ManagerServiceTest {
             Todo todo = new Todo("Title", "Contents", "Sunny", otherUser);
             ReflectionTestUtils.setField(todo, "id", todoId);
 
+            given(managerRepository.deleteOwnedManager(managerId, todoId, userId)).willReturn(0);
+
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
             given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
 
@@ -320,6 +491,8 @@ class ManagerServiceTest {
             Todo todo = new Todo("Title", "content", "Sunny", user);
             ReflectionTestUtils.setField(todo, "id", todoId);
 
+            given(managerRepository.deleteOwnedManager(managerId, todoId, userId)).willReturn(0);
+
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
             given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
 
@@ -349,6 +522,8 @@ class ManagerServiceTest {
             Manager manager = new Manager(user, otherTodo);
             ReflectionTestUtils.setField(manager, "id", managerId);
 
+            given(managerRepository.deleteOwnedManager(managerId, todoId, userId)).willReturn(0);
+
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
             given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
             given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
@@ -359,4 +534,8 @@ class ManagerServiceTest {
             assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
         }
     }
+
+    private UserSummary summary(User user) {
+        return new UserSummary(user.getId(), user.getEmail(), user.getUserRole());
+    }
 }
@@ -0,0 +1,97 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoMembershipIndexTest {
+    @Mock
+    private ManagerRepository managerRepository;
+    @InjectMocks
+    private TodoMembershipIndex todoMembershipIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(todoMembershipIndex, "maxTodos", 10_000);
+        ReflectionTestUtils.setField(todoMembershipIndex, "ttl", Duration.ofSeconds(30));
+    }
+
+    @Test
+    void 처음_조회할_때만_DB에서_담당자를_적재한다() {
+        // given
+        long todoId = 1L;
+        given(managerRepository.findUserIdsByTodoId(todoId)).willReturn(List.of(3L, 1L, 2L));
+
+        // when & then
+        assertTrue(todoMembershipIndex.isManager(todoId, 2L));
+        assertFalse(todoMembershipIndex.isManager(todoId, 4L));
+        verify(managerRepository, times(1)).findUserIdsByTodoId(todoId);
+    }
+
+    @Test
+    void 담당자_추가와_삭제가_인덱스에_바로_반영된다() {
+        // given
+        long todoId = 1L;
+        given(managerRepository.findUserIdsByTodoId(todoId)).willReturn(List.of(1L));
+        todoMembershipIndex.isManager(todoId, 1L);
+
+        // when
+        todoMembershipIndex.addMember(todoId, 5L);
+        todoMembershipIndex.removeMember(todoId, 1L);
+
+        // then
+        assertTrue(todoMembershipIndex.isManager(todoId, 5L));
+        assertFalse(todoMembershipIndex.isManager(todoId, 1L));
+        verify(managerRepository, times(1)).findUserIdsByTodoId(todoId);
+    }
+
+    @Test
+    void 무효화된_일정은_다시_적재한다() {
+        // given
+        long todoId = 1L;
+        given(managerRepository.findUserIdsByTodoId(todoId)).willReturn(List.of(1L));
+        todoMembershipIndex.isManager(todoId, 1L);
+
+        // when
+        todoMembershipIndex.invalidate(todoId);
+        todoMembershipIndex.isManager(todoId, 1L);
+
+        // then
+        verify(managerRepository, times(2)).findUserIdsByTodoId(todoId);
+    }
+
+    @Test
+    void TTL이_지나면_다른_인스턴스의_변경을_반영하도록_다시_적재한다() {
+        // given
+        long todoId = 1L;
+        AtomicLong now = new AtomicLong();
+        LongSupplier clock = now::get;
+        ReflectionTestUtils.setField(todoMembershipIndex, "nanoClock", clock);
+        given(managerRepository.findUserIdsByTodoId(todoId)).willReturn(List.of(1L))
+                .willReturn(List.of());
+        assertTrue(todoMembershipIndex.isManager(todoId, 1L));
+
+        // when: 다른 인스턴스에서 담당자가 삭제된 뒤 TTL 이 지난다
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // then
+        assertFalse(todoMembershipIndex.isManager(todoId, 1L));
+        verify(managerRepository, times(2)).findUserIdsByTodoId(todoId);
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.GlobalExceptionHandler;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
@@ -99,7 +100,7 @@ class TodoControllerTest {
 
         given(resolver.supportsParameter(any())).willReturn(true);
         given(resolver.resolveArgument(any(), any(), any(), any())).willReturn(authUser);
-        given(todoService.getTodos(eq(1), eq(10))).willReturn(todoPage);
+        given(todoService.getTodos(eq(1), eq(10), any())).willReturn(todoPage);
 
         // when & then
         mockMvc.perform(get("/todos")
@@ -146,4 +147,26 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.createdAt").exists())
                 .andExpect(jsonPath("$.modifiedAt").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 내_할일_커서_조회에_성공한다() throws Exception {
+        // given
+        AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+        UserResponse userResponse = new UserResponse(1L, "user@example.com");
+        LocalDateTime now = LocalDateTime.now();
+        TodoResponse todo = new TodoResponse(1L, "Todo", "Content", "맑음", userResponse, now, now);
+        CursorResponse<TodoResponse> response = new CursorResponse<>(List.of(todo), "next", true);
+
+        given(resolver.supportsParameter(any())).willReturn(true);
+        given(resolver.resolveArgument(any(), any(), any(), any())).willReturn(authUser);
+        given(todoService.getMyTodos(any(AuthUser.class), eq(null), eq(10))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/todos/mine"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class TodoRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Nested
+    class keysetPaginationTest {
+        @Test
+        void 소유한_일정을_키셋_커서로_이어서_조회한다() {
+            // given
+            User owner = new User("owner@example.com", "password", UserRole.USER);
+            User other = new User("other@example.com", "password", UserRole.USER);
+            em.persist(owner);
+            em.persist(other);
+            for (int i = 0; i < 3; i++) {
+                em.persist(new Todo("title" + i, "contents", "Sunny", owner));
+            }
+            em.persist(new Todo("other", "contents", "Sunny", other));
+            em.flush();
+            em.clear();
+
+            // when
+            List<Todo> firstPage = todoRepository.findOwnedFirstPage(owner.getId(), Limit.of(2));
+            Todo last = firstPage.get(firstPage.size() - 1);
+            List<Todo> secondPage = todoRepository.findOwnedAfter(owner.getId(), last.getModifiedAt(), last.getId(), Limit.of(2));
+
+            // then
+            assertThat(firstPage).hasSize(2);
+            assertThat(secondPage).hasSize(1);
+            assertThat(secondPage.get(0).getId()).isNotIn(firstPage.stream().map(Todo::getId).toList());
+            assertThat(secondPage).allMatch(todo -> todo.getUser().getId().equals(owner.getId()));
+        }
+
+        @Test
+        void 담당중인_일정을_조회한다() {
+            // given
+            User owner = new User("owner@example.com", "password", UserRole.USER);
+            em.persist(owner);
+            em.persist(new Todo("title", "contents", "Sunny", owner));
+            em.flush();
+            em.clear();
+
+            // when
+            List<Todo> managed = todoRepository.findManagedFirstPage(owner.getId(), Limit.of(10));
+
+            // then
+            assertThat(managed).hasSize(1);
+        }
+    }
+
+    @Nested
+    class queryPlanTest {
+        @Test
+        void 소유자_목록_조회는_복합_인덱스를_사용한다() {
+            String plan = explain("SELECT t.id FROM todos t " +
+                    "WHERE t.user_id = 1 AND (t.modified_at < CURRENT_TIMESTAMP OR (t.modified_at = CURRENT_TIMESTAMP AND t.id < 10)) " +
+                    "ORDER BY t.modified_at DESC, t.id DESC LIMIT 11");
+
+            assertThat(plan).containsIgnoringCase("idx_todos_user_modified_at_id");
+        }
+
+        @Test
+        void 담당자_기준_조회는_담당자_인덱스를_사용한다() {
+            String plan = explain("SELECT m.todo_id FROM managers m WHERE m.user_id = 1");
+
+            assertThat(plan).containsIgnoringCase("idx_managers_user_todo");
+        }
+
+        private String explain(String sql) {
+            return String.valueOf(em.createNativeQuery("EXPLAIN " + sql).getSingleResult());
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package org.example.expert.domain.todo.service;
 
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoDeletionStatus;
+import org.example.expert.domain.todo.enums.TodoInclude;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.entity.User;
@@ -20,11 +29,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,7 +46,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -40,6 +56,14 @@ public class TodoServiceTest {
     private TodoRepository todoRepository;
     @Mock
     private WeatherClient weatherClient;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private TodoDeletionService todoDeletionService;
+    @Mock
+    private TodoMembershipIndex todoMembershipIndex;
 
     @InjectMocks
     private TodoService todoService;
@@ -115,6 +139,44 @@ public class TodoServiceTest {
 
             verify(todoRepository).findAllByOrderByModifiedAtDesc(any(PageRequest.class));
         }
+
+        @Test
+        @DisplayName("include 요청 시 담당자는 IN 쿼리로, 개수는 카운터로 함께 조회")
+        public void testGetTodos_WithIncludes(){
+            // given
+            Page<Todo> todoPage = new PageImpl<>(Arrays.asList(todo));
+            Manager manager = new Manager(user, todo);
+            given(todoRepository.findAllByOrderByModifiedAtDesc(any(PageRequest.class))).willReturn(todoPage);
+            given(managerRepository.findAllByTodoIdInWithUser(List.of(todo.getId()))).willReturn(List.of(manager));
+            ReflectionTestUtils.setField(todo, "commentCount", 3L);
+
+            // when
+            Page<TodoResponse> response = todoService.getTodos(1, 10, EnumSet.allOf(TodoInclude.class));
+
+            // then
+            TodoResponse todoResponse = response.getContent().get(0);
+            assertThat(todoResponse.getManagers()).hasSize(1);
+            assertThat(todoResponse.getManagers().get(0).getUser().getId()).isEqualTo(user.getId());
+            assertThat(todoResponse.getCommentCount()).isEqualTo(3L);
+            assertThat(todoResponse.getManagerCount()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("include 미요청 시 연관 데이터를 조회하지 않음")
+        public void testGetTodos_WithoutIncludes(){
+            // given
+            Page<Todo> todoPage = new PageImpl<>(Arrays.asList(todo));
+            given(todoRepository.findAllByOrderByModifiedAtDesc(any(PageRequest.class))).willReturn(todoPage);
+
+            // when
+            Page<TodoResponse> response = todoService.getTodos(1, 10, EnumSet.noneOf(TodoInclude.class));
+
+            // then
+            assertThat(response.getContent().get(0).getManagers()).isNull();
+            assertThat(response.getContent().get(0).getCommentCount()).isNull();
+            assertThat(response.getContent().get(0).getManagerCount()).isNull();
+            verifyNoInteractions(managerRepository);
+        }
     }
     @Nested
     @DisplayName("특정 할일 조회 테스트")
@@ -154,4 +216,107 @@ public class TodoServiceTest {
            assertEquals("Todo not found", exception.getMessage());
        }
    }
+
+    @Nested
+    @DisplayName("내 할일 커서 조회 테스트")
+    class getMyTodosTest{
+        @Test
+        @DisplayName("size 보다 많이 조회되면 다음 커서를 반환")
+        public void testGetMyTodos_HasNext(){
+            // given
+            Todo next = new Todo("다음 할일", "내용", "맑음", user);
+            next.setId(2L);
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+            ReflectionTestUtils.setField(todo, "modifiedAt", modifiedAt);
+            given(todoRepository.findOwnedFirstPage(user.getId(), Limit.of(2))).willReturn(List.of(todo, next));
+
+            // when
+            CursorResponse<TodoResponse> response = todoService.getMyTodos(authUser, null, 1);
+
+            // then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.isHasNext()).isTrue();
+            KeysetCursor cursor = KeysetCursor.decode(response.getNextCursor());
+            assertThat(cursor.getAt()).isEqualTo(modifiedAt);
+            assertThat(cursor.getId()).isEqualTo(todo.getId());
+        }
+
+        @Test
+        @DisplayName("커서가 주어지면 커서 이후부터 조회")
+        public void testGetMyTodos_WithCursor(){
+            // given
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+            String cursor = new KeysetCursor(modifiedAt, 5L).encode();
+            given(todoRepository.findOwnedAfter(user.getId(), modifiedAt, 5L, Limit.of(11))).willReturn(List.of(todo));
+
+            // when
+            CursorResponse<TodoResponse> response = todoService.getMyTodos(authUser, cursor, 10);
+
+            // then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 예외 발생")
+        public void testGetMyTodos_InvalidCursor(){
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> todoService.getMyTodos(authUser, "invalid", 10));
+            assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("할일 삭제 테스트")
+    class deleteTodoTest{
+        @Test
+        @DisplayName("댓글이 적으면 집합 단위 UPDATE 로 즉시 삭제 표시")
+        public void testDeleteTodo_Sync(){
+            // given
+            given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
+
+            // when
+            TodoDeleteResponse response = todoService.deleteTodo(authUser, 1L);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(TodoDeletionStatus.DELETED);
+            assertThat(response.getJobId()).isNull();
+            verify(commentRepository).softDeleteByTodoId(eq(1L), any(LocalDateTime.class));
+            verify(managerRepository).bulkDeleteByTodoId(1L);
+            verify(todoRepository).softDeleteById(eq(1L), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("댓글이 많으면 비동기 삭제 작업을 시작하고 작업 id 를 반환")
+        public void testDeleteTodo_Async(){
+            // given
+            ReflectionTestUtils.setField(todo, "commentCount", 5000L);
+            TodoDeletionJob job = new TodoDeletionJob(1L, user.getId());
+            given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
+            given(todoDeletionService.start(1L, user.getId())).willReturn(job);
+
+            // when
+            TodoDeleteResponse response = todoService.deleteTodo(authUser, 1L);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(TodoDeletionStatus.IN_PROGRESS);
+            assertThat(response.getJobId()).isEqualTo(job.getId());
+            verify(todoRepository).softDeleteById(eq(1L), any(LocalDateTime.class));
+            verify(commentRepository, never()).softDeleteByTodoId(anyLong(), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("작성자가 아니면 예외 발생")
+        public void testDeleteTodo_NotOwner(){
+            // given
+            AuthUser otherUser = new AuthUser(2L, "other@example.com", UserRole.USER);
+            given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> todoService.deleteTodo(otherUser, 1L));
+            assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.PurgeStatusResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TombstonePurgeJobTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TombstonePurgeJob tombstonePurgeJob;
+
+    @BeforeEach
+    void setUp() {
+        tombstonePurgeJob = new TombstonePurgeJob(commentRepository, managerRepository, todoRepository, transactionTemplate);
+        ReflectionTestUtils.setField(tombstonePurgeJob, "batchSize", 2);
+        ReflectionTestUtils.setField(tombstonePurgeJob, "throttleMillis", 0L);
+        ReflectionTestUtils.setField(tombstonePurgeJob, "maxDuration", Duration.ofMinutes(1));
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void 댓글_삭제_작업이_중간에_실패한_일정의_남은_댓글을_지우고_일정을_purge한다() {
+        // given: 비동기 작업이 실패해 삭제 표시된 일정 10 에 댓글 3개가 남아 있다
+        given(commentRepository.findIdsOfTombstonedTodos(2))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(3L))
+                .willReturn(List.of());
+        given(commentRepository.purgeByIds(List.of(1L, 2L))).willReturn(2);
+        given(commentRepository.purgeByIds(List.of(3L))).willReturn(1);
+        given(commentRepository.findTombstonedIds(2)).willReturn(List.of());
+        given(todoRepository.findPurgeableIds(2))
+                .willReturn(List.of(10L))
+                .willReturn(List.of());
+        given(todoRepository.purgeByIds(List.of(10L))).willReturn(1);
+
+        // when
+        tombstonePurgeJob.purge();
+
+        // then
+        verify(managerRepository).purgeByTodoIds(List.of(10L));
+        PurgeStatusResponse status = tombstonePurgeJob.getStatus();
+        assertEquals(3, status.getLastRunPurgedComments());
+        assertEquals(1, status.getLastRunPurgedTodos());
+    }
+}
@@ -2,9 +2,13 @@ package org.example.expert.domain.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.domain.user.dto.request.UserBulkRoleChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserBulkRoleChangeResponse;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserCache;
+import org.example.expert.domain.user.service.UserOffboardingJob;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,12 +18,16 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserAdminController.class)
@@ -30,6 +38,12 @@ class UserAdminControllerTest {
     @MockBean
     private UserAdminService userAdminService;
 
+    @MockBean
+    private UserCache userCache;
+
+    @MockBean
+    private UserOffboardingJob userOffboardingJob;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -56,4 +70,18 @@ class UserAdminControllerTest {
                 .andExpect(status().isOk());
         verify(userAdminService).changeUserRole(eq(userId), any(UserRoleChangeRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void 사용자_역할_일괄_변경에_성공한다() throws Exception {
+        // given
+        UserBulkRoleChangeRequest request = new UserBulkRoleChangeRequest("USER", List.of(1L, 2L), null);
+        given(userAdminService.changeUserRoles(any(UserBulkRoleChangeRequest.class))).willReturn(new UserBulkRoleChangeResponse(2));
+
+        // when & then
+        mockMvc.perform(patch("/admin/users/roles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(2));
+    }
+}
@@ -6,6 +6,7 @@ import org.example.expert.config.GlobalExceptionHandler;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.manager.controller.ManagerController;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.response.UserBatchResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.service.UserService;
@@ -19,6 +20,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -70,6 +73,35 @@ class UserControllerTest {
         verify(userService).getUser(userId);
     }
 
+    @Test
+    void 여러_사용자_정보를_한번에_조회한다() throws Exception {
+        // given
+        UserBatchResponse response = new UserBatchResponse(
+                List.of(new UserResponse(2L, "user2@example.com"), new UserResponse(1L, "user1@example.com")),
+                List.of(9L)
+        );
+        given(userService.getUsers(List.of(2L, 1L, 9L))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/users").param("ids", "2,1,9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].id").value(2L))
+                .andExpect(jsonPath("$.users[1].id").value(1L))
+                .andExpect(jsonPath("$.missingIds[0]").value(9L));
+    }
+
+    @Test
+    void 이메일_접두사로_사용자를_검색한다() throws Exception {
+        // given
+        given(userService.searchByEmailPrefix("al", 10)).willReturn(List.of(new UserResponse(3L, "al@example.com")));
+
+        // when & then
+        mockMvc.perform(get("/users/search").param("emailPrefix", "al"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3L))
+                .andExpect(jsonPath("$[0].email").value("al@example.com"));
+    }
+
     @Test
     void 비밀번호_변경에_성공한다() throws Exception {
         // given
@@ -0,0 +1,43 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void 대소문자만_다른_기존_계정은_입력한_이메일의_계정으로_찾는다() {
+        // given: 백필에서 중복으로 건너뛴 기존 계정은 정규화 값이 없다
+        User legacy = new User("Foo@x.com", "password", UserRole.USER);
+        User other = new User("foo@x.com", "password", UserRole.USER);
+        em.persist(legacy);
+        em.flush();
+        em.createNativeQuery("UPDATE users SET normalized_email = NULL WHERE id = :id")
+                .setParameter("id", legacy.getId())
+                .executeUpdate();
+        em.persist(other);
+        em.flush();
+        em.clear();
+
+        // when & then
+        assertThat(userRepository.findByEmail("Foo@x.com")).get().extracting(User::getId).isEqualTo(legacy.getId());
+        assertThat(userRepository.findByEmail("foo@x.com")).get().extracting(User::getId).isEqualTo(other.getId());
+        assertThat(userRepository.findByEmail("FOO@X.COM")).get().extracting(User::getId).isEqualTo(other.getId());
+    }
+}
@@ -1,7 +1,9 @@
 package org.example.expert.domain.user.service;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserBulkRoleChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserBulkRoleChangeResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -13,16 +15,25 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private UserCache userCache;
+    @Mock
+    private UserSecurityVersionRegistry securityVersionRegistry;
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -38,12 +49,16 @@ class UserAdminServiceTest {
             UserRoleChangeRequest request = new UserRoleChangeRequest("ADMIN");
 
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
+            given(userRepository.findSecurityVersionById(userId)).willReturn(1L);
 
             // when
             userAdminService.changeUserRole(userId, request);
 
             // then
             verify(userRepository).findById(userId);
+            verify(userRepository).bumpSecurityVersion(eq(userId), any(LocalDateTime.class));
+            verify(userCache).invalidate(userId);
+            verify(securityVersionRegistry).advance(userId, 1L);
             assertEquals(UserRole.ADMIN, user.getUserRole());
         }
         @Test
@@ -60,4 +75,60 @@ class UserAdminServiceTest {
             assertEquals("User not found", exception.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class changeUserRolesTest{
+        @Test
+        void id_목록으로_역할을_일괄_변경한다(){
+            // given
+            UserBulkRoleChangeRequest request = new UserBulkRoleChangeRequest("ADMIN", List.of(1L, 2L, 1L), null);
+            given(userRepository.updateRoleByIds(eq(List.of(1L, 2L)), eq(UserRole.ADMIN), any(LocalDateTime.class))).willReturn(2);
+
+            // when
+            UserBulkRoleChangeResponse response = userAdminService.changeUserRoles(request);
+
+            // then
+            assertEquals(2L, response.getAffectedRows());
+            verify(userCache).invalidate(1L);
+            verify(userCache).invalidate(2L);
+            verify(securityVersionRegistry).refreshAfterCommit();
+        }
+
+        @Test
+        void 이메일_패턴의_LIKE_특수문자를_이스케이프한다(){
+            // given
+            UserBulkRoleChangeRequest request = new UserBulkRoleChangeRequest("USER", null, "*_test%@example.com");
+            given(userRepository.updateRoleByEmailLike(eq("%!_test!%@example.com"), eq(UserRole.USER), any(LocalDateTime.class))).willReturn(3);
+
+            // when
+            UserBulkRoleChangeResponse response = userAdminService.changeUserRoles(request);
+
+            // then
+            assertEquals(3L, response.getAffectedRows());
+            verify(userCache).invalidateAll();
+        }
+
+        @Test
+        void 대상이_모두_지정되면_예외가_발생한다(){
+            // given
+            UserBulkRoleChangeRequest request = new UserBulkRoleChangeRequest("ADMIN", List.of(1L), "*@example.com");
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> userAdminService.changeUserRoles(request));
+            assertEquals("userIds 와 emailPattern 중 하나만 지정해야 합니다.", exception.getMessage());
+        }
+
+        @Test
+        void 와일드카드만으로_된_패턴은_예외가_발생한다(){
+            // given
+            UserBulkRoleChangeRequest request = new UserBulkRoleChangeRequest("ADMIN", null, "**");
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> userAdminService.changeUserRoles(request));
+            assertEquals("이메일 패턴에는 와일드카드 외의 문자가 포함되어야 합니다.", exception.getMessage());
+            verifyNoInteractions(userRepository);
+        }
+    }
+}
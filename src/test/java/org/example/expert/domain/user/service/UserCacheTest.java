@@ -0,0 +1,116 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.UserSummary;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(userRepository, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void 두번째_조회는_캐시에서_반환한다() {
+        // given
+        UserSummary user = new UserSummary(1L, "user@example.com", UserRole.USER);
+        given(userRepository.findSummaryById(1L)).willReturn(Optional.of(user));
+
+        // when
+        userCache.get(1L);
+        Optional<UserSummary> result = userCache.get(1L);
+
+        // then
+        assertEquals(user, result.orElseThrow());
+        verify(userRepository, times(1)).findSummaryById(1L);
+        assertEquals(1L, userCache.getStats().getHitCount());
+    }
+
+    @Test
+    void 존재하지_않는_유저는_캐시하지_않는다() {
+        // given
+        given(userRepository.findSummaryById(1L)).willReturn(Optional.empty());
+
+        // when
+        userCache.get(1L);
+        Optional<UserSummary> result = userCache.get(1L);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(userRepository, times(2)).findSummaryById(1L);
+    }
+
+    @Test
+    void 무효화하면_다시_DB에서_조회한다() {
+        // given
+        UserSummary user = new UserSummary(1L, "user@example.com", UserRole.USER);
+        given(userRepository.findSummaryById(1L)).willReturn(Optional.of(user));
+        userCache.get(1L);
+
+        // when
+        userCache.invalidate(1L);
+        userCache.get(1L);
+
+        // then
+        verify(userRepository, times(2)).findSummaryById(1L);
+    }
+
+    @Test
+    void 일괄_조회는_캐시에_없는_id만_DB에서_조회한다() {
+        // given
+        UserSummary user1 = new UserSummary(1L, "user1@example.com", UserRole.USER);
+        UserSummary user2 = new UserSummary(2L, "user2@example.com", UserRole.ADMIN);
+        given(userRepository.findSummaryById(1L)).willReturn(Optional.of(user1));
+        given(userRepository.findSummariesByIdIn(List.of(2L, 3L))).willReturn(List.of(user2));
+        userCache.get(1L);
+
+        // when
+        Map<Long, UserSummary> result = userCache.getAll(List.of(1L, 2L, 3L, 2L));
+
+        // then
+        assertEquals(Map.of(1L, user1, 2L, user2), result);
+        verify(userRepository).findSummariesByIdIn(List.of(2L, 3L));
+    }
+
+    @Test
+    void 일괄_조회_도중_무효화된_유저는_캐시하지_않는다() {
+        // given
+        UserSummary stale = new UserSummary(2L, "user2@example.com", UserRole.USER);
+        given(userRepository.findSummariesByIdIn(List.of(2L))).willAnswer(invocation -> {
+            // 조회 직후 다른 요청의 역할 변경이 커밋된다
+            userCache.invalidate(2L);
+            return List.of(stale);
+        });
+        given(userRepository.findSummaryById(2L)).willReturn(Optional.of(stale));
+
+        // when
+        userCache.getAll(List.of(2L));
+        userCache.get(2L);
+
+        // then
+        verify(userRepository).findSummaryById(2L);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.UserSummary;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserEmailBackfillJobTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserJdbcRepository userJdbcRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private UserEmailBackfillJob userEmailBackfillJob;
+
+    @BeforeEach
+    void setUp() {
+        userEmailBackfillJob = new UserEmailBackfillJob(userRepository, userJdbcRepository, transactionTemplate, Runnable::run);
+        ReflectionTestUtils.setField(userEmailBackfillJob, "chunkSize", 2);
+        ReflectionTestUtils.setField(userEmailBackfillJob, "throttleMillis", 0L);
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void chunk_단위로_이어서_백필한다() {
+        // given
+        List<UserSummary> first = List.of(summary(1L, "A@x.com"), summary(2L, "b@x.com"));
+        List<UserSummary> second = List.of(summary(5L, "C@x.com"));
+        given(userRepository.findWithoutNormalizedEmailAfter(0L, Limit.of(2))).willReturn(first);
+        given(userRepository.findWithoutNormalizedEmailAfter(2L, Limit.of(2))).willReturn(second);
+        given(userRepository.findWithoutNormalizedEmailAfter(5L, Limit.of(2))).willReturn(List.of());
+        given(userJdbcRepository.updateNormalizedEmails(first)).willReturn(new int[]{1, 1});
+        given(userJdbcRepository.updateNormalizedEmails(second)).willReturn(new int[]{1});
+
+        // when
+        long updated = userEmailBackfillJob.backfill();
+
+        // then
+        assertEquals(3L, updated);
+    }
+
+    @Test
+    void 중복되는_행만_건너뛰고_나머지는_백필한다() {
+        // given
+        UserSummary user = summary(1L, "Foo@x.com");
+        UserSummary duplicate = summary(2L, "foo@x.com");
+        List<UserSummary> chunk = List.of(user, duplicate);
+        given(userRepository.findWithoutNormalizedEmailAfter(0L, Limit.of(2))).willReturn(chunk);
+        given(userRepository.findWithoutNormalizedEmailAfter(2L, Limit.of(2))).willReturn(List.of());
+        given(userJdbcRepository.updateNormalizedEmails(chunk)).willThrow(new DataIntegrityViolationException("uk"));
+        given(userJdbcRepository.updateNormalizedEmail(user)).willReturn(1);
+        given(userJdbcRepository.updateNormalizedEmail(duplicate)).willThrow(new DataIntegrityViolationException("uk"));
+
+        // when
+        long updated = userEmailBackfillJob.backfill();
+
+        // then
+        assertEquals(1L, updated);
+        verify(userJdbcRepository).updateNormalizedEmail(duplicate);
+    }
+
+    private UserSummary summary(long id, String email) {
+        return new UserSummary(id, email, UserRole.USER);
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.UserSummary;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class UserEmailPrefixIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserEmailPrefixIndex userEmailPrefixIndex;
+
+    @BeforeEach
+    void setUp() {
+        userEmailPrefixIndex = new UserEmailPrefixIndex(userRepository, Runnable::run);
+        ReflectionTestUtils.setField(userEmailPrefixIndex, "maxEntries", 1000);
+        ReflectionTestUtils.setField(userEmailPrefixIndex, "loadChunkSize", 2);
+        ReflectionTestUtils.setField(userEmailPrefixIndex, "overlap", Duration.ofSeconds(30));
+    }
+
+    private void load(UserSummary... users) {
+        List<UserSummary> all = List.of(users);
+        given(userRepository.findSummariesAfter(any(), any(Limit.class))).willAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            int limit = invocation.<Limit>getArgument(1).max();
+            return all.stream().filter(user -> user.getId() > lastId).limit(limit).toList();
+        });
+        userEmailPrefixIndex.rebuild();
+    }
+
+    private List<Long> userIds(String prefix, String afterKey, int limit) {
+        return userEmailPrefixIndex.search(prefix, afterKey, limit).orElseThrow().stream()
+                .map(UserEmailPrefixIndex.Match::userId)
+                .toList();
+    }
+
+    @Test
+    void 적재_전에는_검색하지_않는다() {
+        assertTrue(userEmailPrefixIndex.search("a", null, 10).isEmpty());
+    }
+
+    @Test
+    void 접두사로_시작하는_유저를_이메일_순서로_최대_limit개_반환한다() {
+        // given
+        load(
+                new UserSummary(1L, "Bob@example.com", UserRole.USER),
+                new UserSummary(2L, "alice@example.com", UserRole.USER),
+                new UserSummary(3L, "Al@example.com", UserRole.USER),
+                new UserSummary(4L, "alan@example.com", UserRole.ADMIN)
+        );
+
+        // when
+        List<Long> result = userIds("al", null, 2);
+
+        // then
+        assertEquals(List.of(3L, 4L), result);
+    }
+
+    @Test
+    void 가입과_삭제를_바로_반영한다() {
+        // given
+        load(new UserSummary(1L, "carol@example.com", UserRole.USER));
+
+        // when
+        userEmailPrefixIndex.add(2L, "Cara@example.com");
+        userEmailPrefixIndex.remove(1L);
+
+        // then
+        assertEquals(List.of(2L), userIds("car", null, 10));
+    }
+
+    @Test
+    void 대소문자만_다른_유저를_모두_보관하고_마지막_키_다음부터_이어서_읽는다() {
+        // given
+        load(
+                new UserSummary(1L, "Dana@example.com", UserRole.USER),
+                new UserSummary(2L, "dana@example.com", UserRole.USER),
+                new UserSummary(3L, "dan@example.com", UserRole.USER)
+        );
+
+        // when
+        List<UserEmailPrefixIndex.Match> first = userEmailPrefixIndex.search("dan", null, 1).orElseThrow();
+
+        // then
+        assertEquals(3L, first.get(0).userId());
+        assertEquals(List.of(1L, 2L), userIds("dan", first.get(0).key(), 10));
+    }
+
+    @Test
+    void 이메일이_바뀐_유저는_이전_이메일로_검색되지_않는다() {
+        // given
+        load(new UserSummary(1L, "erin@example.com", UserRole.USER));
+
+        // when
+        userEmailPrefixIndex.add(1L, "zed@example.com");
+
+        // then
+        assertEquals(List.of(), userIds("erin", null, 10));
+        assertEquals(List.of(1L), userIds("zed", null, 10));
+    }
+
+    @Test
+    void 한도를_넘으면_인덱스를_사용하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(userEmailPrefixIndex, "maxEntries", 1);
+
+        // when
+        load(
+                new UserSummary(1L, "a@example.com", UserRole.USER),
+                new UserSummary(2L, "b@example.com", UserRole.USER)
+        );
+
+        // then
+        assertTrue(userEmailPrefixIndex.search("a", null, 10).isEmpty());
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.request.UserOffboardingRequest;
+import org.example.expert.domain.user.dto.response.UserOffboardingStatusResponse;
+import org.example.expert.domain.user.entity.UserOffboarding;
+import org.example.expert.domain.user.enums.OffboardingPhase;
+import org.example.expert.domain.user.enums.OffboardingStatus;
+import org.example.expert.domain.user.repository.UserOffboardingRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserOffboardingJobTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserOffboardingRepository offboardingRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private TodoMembershipIndex todoMembershipIndex;
+    @Mock
+    private UserCache userCache;
+    @Mock
+    private UserSecurityVersionRegistry securityVersionRegistry;
+    @Mock
+    private UserEmailPrefixIndex userEmailPrefixIndex;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private UserOffboardingJob userOffboardingJob;
+
+    @BeforeEach
+    void setUp() {
+        userOffboardingJob = new UserOffboardingJob(
+                userRepository, offboardingRepository, todoRepository, commentRepository, managerRepository,
+                todoMembershipIndex, userCache, securityVersionRegistry, userEmailPrefixIndex, transactionTemplate, Runnable::run
+        );
+        ReflectionTestUtils.setField(userOffboardingJob, "staleAfter", Duration.ofMinutes(5));
+    }
+
+    private void runTransactionsInline() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void 체크포인트부터_이어서_모든_단계를_처리하고_유저를_삭제한다() {
+        // given
+        long userId = 1L;
+        UserOffboarding offboarding = new UserOffboarding(userId, null);
+        offboarding.checkpoint(30L, 2);
+        offboarding.nextPhase();
+        offboarding.checkpoint(10L, 1);
+        offboarding.fail("connection reset");
+        given(offboardingRepository.findByUserId(userId)).willReturn(Optional.of(offboarding));
+        given(offboardingRepository.claim(eq(userId), any(), any())).willReturn(1);
+        runTransactionsInline();
+
+        given(todoRepository.findAllOwnedIdsAfter(eq(userId), eq(10L), any(Integer.class))).willReturn(List.of(11L));
+        given(todoRepository.findAllOwnedIdsAfter(eq(userId), eq(11L), any(Integer.class))).willReturn(List.of());
+        given(commentRepository.findAllIdsByUserIdAfter(eq(userId), eq(0L), any(Integer.class))).willReturn(List.of(5L));
+        given(commentRepository.findAllTodoIdsByIds(List.of(5L))).willReturn(List.of(20L));
+        given(commentRepository.purgeByIds(List.of(5L))).willReturn(1);
+        given(commentRepository.findAllIdsByUserIdAfter(eq(userId), eq(5L), any(Integer.class))).willReturn(List.of());
+        given(managerRepository.findIdsByUserIdAfter(eq(userId), eq(0L), any(Limit.class))).willReturn(List.of());
+
+        // when
+        UserOffboardingStatusResponse response = userOffboardingJob.start(userId, null);
+
+        // then
+        assertEquals(OffboardingStatus.COMPLETED, offboarding.getStatus());
+        assertEquals(OffboardingPhase.DONE, offboarding.getPhase());
+        assertEquals(2L, offboarding.getProcessedTodos());
+        assertEquals(3L, offboarding.getProcessedComments());
+        assertEquals(userId, response.getUserId());
+        verify(todoRepository, never()).findAllOwnedIdsAfter(eq(userId), eq(0L), any(Integer.class));
+        verify(todoRepository).purgeByIds(List.of(11L));
+        verify(todoRepository).recountComments(List.of(20L));
+        verify(userRepository).purgeById(userId);
+    }
+
+    @Test
+    void 소유_일정의_댓글을_chunk_단위로_지운_뒤_일정을_지운다() {
+        // given
+        long userId = 1L;
+        UserOffboarding offboarding = new UserOffboarding(userId, null);
+        given(offboardingRepository.findByUserId(userId)).willReturn(Optional.of(offboarding));
+        given(offboardingRepository.claim(eq(userId), any(), any())).willReturn(1);
+        runTransactionsInline();
+        ReflectionTestUtils.setField(userOffboardingJob, "chunkSize", 2);
+
+        given(commentRepository.findAllIdsOnTodosOwnedByAfter(userId, 0L, 2)).willReturn(List.of(3L, 4L));
+        given(commentRepository.findAllIdsOnTodosOwnedByAfter(userId, 4L, 2)).willReturn(List.of(9L));
+        given(commentRepository.findAllIdsOnTodosOwnedByAfter(userId, 9L, 2)).willReturn(List.of());
+        given(commentRepository.purgeByIds(List.of(3L, 4L))).willReturn(2);
+        given(commentRepository.purgeByIds(List.of(9L))).willReturn(1);
+        given(todoRepository.findAllOwnedIdsAfter(userId, 0L, 2)).willReturn(List.of(20L));
+        given(todoRepository.findAllOwnedIdsAfter(userId, 20L, 2)).willReturn(List.of());
+        given(commentRepository.findAllIdsByUserIdAfter(userId, 0L, 2)).willReturn(List.of());
+        given(managerRepository.findIdsByUserIdAfter(userId, 0L, Limit.of(2))).willReturn(List.of());
+
+        // when
+        userOffboardingJob.start(userId, null);
+
+        // then
+        assertEquals(OffboardingStatus.COMPLETED, offboarding.getStatus());
+        assertEquals(3L, offboarding.getProcessedComments());
+        assertEquals(1L, offboarding.getProcessedTodos());
+        InOrder inOrder = inOrder(commentRepository, todoRepository);
+        inOrder.verify(commentRepository).purgeByIds(List.of(3L, 4L));
+        inOrder.verify(commentRepository).purgeByIds(List.of(9L));
+        inOrder.verify(todoRepository).purgeByIds(List.of(20L));
+    }
+
+    @Test
+    void 다른_인스턴스가_실행_중인_작업은_넘겨받지_않는다() {
+        // given
+        long userId = 1L;
+        UserOffboarding offboarding = new UserOffboarding(userId, null);
+        given(offboardingRepository.findByUserId(userId)).willReturn(Optional.of(offboarding));
+        given(offboardingRepository.claim(eq(userId), any(), any())).willReturn(0);
+        runTransactionsInline();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userOffboardingJob.start(userId, null));
+        assertEquals("이미 탈퇴 처리 중인 유저입니다.", exception.getMessage());
+        verify(commentRepository, never()).findAllIdsOnTodosOwnedByAfter(any(), any(), any(Integer.class));
+    }
+
+    @Test
+    void 일정을_넘겨받을_유저가_없으면_예외가_발생한다() {
+        // given
+        given(offboardingRepository.findByUserId(1L)).willReturn(Optional.empty());
+        given(userRepository.existsById(1L)).willReturn(true);
+        given(userRepository.existsById(2L)).willReturn(false);
+        runTransactionsInline();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userOffboardingJob.start(1L, new UserOffboardingRequest(2L)));
+        assertEquals("일정을 넘겨받을 유저가 존재하지 않습니다.", exception.getMessage());
+        verify(offboardingRepository, never()).save(any());
+    }
+
+    @Test
+    void 처리_중_오류가_나면_실패_상태와_메시지를_남긴다() {
+        // given
+        long userId = 1L;
+        UserOffboarding offboarding = new UserOffboarding(userId, 3L);
+        given(offboardingRepository.findByUserId(userId)).willReturn(Optional.of(offboarding));
+        given(offboardingRepository.claim(eq(userId), any(), any())).willReturn(1);
+        runTransactionsInline();
+        willAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(todoRepository.findAllOwnedIdsAfter(eq(userId), eq(0L), any(Integer.class))).willReturn(List.of(7L));
+        given(todoRepository.reassignOwner(List.of(7L), 3L)).willThrow(new IllegalStateException("lock wait timeout"));
+
+        // when
+        userOffboardingJob.start(userId, null);
+
+        // then
+        assertEquals(OffboardingStatus.FAILED, offboarding.getStatus());
+        assertEquals("lock wait timeout", offboarding.getErrorMessage());
+        assertEquals(0L, offboarding.getLastProcessedId());
+    }
+}
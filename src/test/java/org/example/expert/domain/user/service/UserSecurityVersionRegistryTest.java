@@ -0,0 +1,94 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.UserSecurityVersion;
+import org.example.expert.domain.user.repository.UserOffboardingRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class UserSecurityVersionRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserOffboardingRepository offboardingRepository;
+
+    private UserSecurityVersionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new UserSecurityVersionRegistry(userRepository, offboardingRepository, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void 변경_이력이_없는_유저는_버전_0_토큰을_허용한다() {
+        assertTrue(registry.isCurrent(1L, 0L));
+    }
+
+    @Test
+    void 버전이_올라가면_이전_버전의_토큰을_거부한다() {
+        // when
+        registry.advance(1L, 2L);
+
+        // then
+        assertFalse(registry.isCurrent(1L, 1L));
+        assertTrue(registry.isCurrent(1L, 2L));
+    }
+
+    @Test
+    void 다른_인스턴스의_변경을_증분_조회로_반영한다() {
+        // given
+        given(userRepository.findSecurityVersionsModifiedSince(any()))
+                .willReturn(List.of(new UserSecurityVersion(1L, 3L, LocalDateTime.now())));
+
+        // when
+        registry.refresh();
+
+        // then
+        assertFalse(registry.isCurrent(1L, 2L));
+        assertTrue(registry.isCurrent(2L, 0L));
+    }
+
+    @Test
+    void 늦게_도착한_이전_버전으로_되돌리지_않는다() {
+        // given
+        registry.advance(1L, 5L);
+        given(userRepository.findSecurityVersionsModifiedSince(any()))
+                .willReturn(List.of(new UserSecurityVersion(1L, 4L, LocalDateTime.now())));
+
+        // when
+        registry.refresh();
+
+        // then
+        assertFalse(registry.isCurrent(1L, 4L));
+    }
+
+    @Test
+    void 재시작_후에도_탈퇴_처리된_유저의_토큰을_거부한다() {
+        // given: 유저 행은 이미 삭제되어 보안 버전 조회에 나오지 않는다
+        given(userRepository.findSecurityVersionsModifiedSince(any())).willReturn(List.of());
+        given(offboardingRepository.findUserIdsStartedSince(any())).willReturn(List.of(1L));
+        UserSecurityVersionRegistry restarted = new UserSecurityVersionRegistry(userRepository, offboardingRepository, Duration.ofSeconds(30));
+
+        // when
+        restarted.load();
+
+        // then
+        assertFalse(restarted.isCurrent(1L, 0L));
+        assertFalse(restarted.isCurrent(1L, 100L));
+        assertTrue(restarted.isCurrent(2L, 0L));
+    }
+}
@@ -2,7 +2,9 @@ package org.example.expert.domain.user.service;
 
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserSummary;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.response.UserBatchResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -16,10 +18,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doNothing;
@@ -30,6 +40,12 @@ class UserServiceTest {
     private UserRepository userRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private UserCache userCache;
+    @Mock
+    private UserSecurityVersionRegistry securityVersionRegistry;
+    @Mock
+    private UserEmailPrefixIndex userEmailPrefixIndex;
     @InjectMocks
     private UserService userService;
 
@@ -45,7 +61,7 @@ class UserServiceTest {
         testUser.setPassword(encodedOldPassword);
         testUser.setUserRole(UserRole.USER);
 
-        userService = new UserService(userRepository, passwordEncoder);
+        userService = new UserService(userRepository, passwordEncoder, userCache, securityVersionRegistry, userEmailPrefixIndex);
     }
     @Nested
     @DisplayName("유저 조회 테스트")
@@ -54,7 +70,7 @@ class UserServiceTest {
         @DisplayName("존재하는 사용자 정보 조회시 UserResponse 반환")
         void getUser_ExistingUser_ReturnUserResponse(){
             // given
-            given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+            given(userCache.get(1L)).willReturn(Optional.of(new UserSummary(1L, "test@example.com", UserRole.USER)));
 
             // when
             UserResponse response = userService.getUser(1L);
@@ -63,23 +79,123 @@ class UserServiceTest {
             assertNotNull(response);
             assertEquals(1L, response.getId());
             assertEquals("test@example.com", response.getEmail());
-            then(userRepository).should().findById(1L);
+            then(userRepository).shouldHaveNoInteractions();
         }
 
         @Test
         @DisplayName("존재하지 않는 사용자 정보 조회 시 예외 발생")
         void getUser_NonExistingUser_ThrowsInvalidRequestException(){
             // given
-            given(userRepository.findById(1L)).willReturn(Optional.empty());
+            given(userCache.get(1L)).willReturn(Optional.empty());
 
             // when & then
             InvalidRequestException exception = assertThrows(InvalidRequestException.class,
                     () -> userService.getUser(1L));
 
             assertEquals("User not found", exception.getMessage());
-            then(userRepository).should().findById(1L);
         }
     }
+    @Nested
+    @DisplayName("유저 일괄 조회 테스트")
+    class getUsersTest{
+        @Test
+        void 요청_순서대로_조회하고_없는_id를_따로_반환한다() {
+            // given
+            UserSummary user1 = new UserSummary(1L, "user1@example.com", UserRole.USER);
+            UserSummary user2 = new UserSummary(2L, "user2@example.com", UserRole.USER);
+            given(userCache.getAll(List.of(2L, 9L, 1L))).willReturn(Map.of(1L, user1, 2L, user2));
+
+            // when
+            UserBatchResponse response = userService.getUsers(List.of(2L, 9L, 1L, 2L));
+
+            // then
+            assertEquals(List.of(2L, 1L), response.getUsers().stream().map(UserResponse::getId).toList());
+            assertEquals(List.of(9L), response.getMissingIds());
+        }
+
+        @Test
+        void 최대_개수를_넘으면_예외가_발생한다() {
+            // given
+            List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> userService.getUsers(ids));
+            assertEquals("ids는 1개 이상 100개 이하여야 합니다.", exception.getMessage());
+            then(userCache).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void 비어_있는_id가_있으면_예외가_발생한다() {
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> userService.getUsers(Arrays.asList(1L, null, 2L)));
+            assertEquals("ids에 비어 있는 값이 있습니다.", exception.getMessage());
+            then(userCache).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("이메일 접두사 검색 테스트")
+    class searchByEmailPrefixTest{
+        @Test
+        void 인덱스_결과를_현재_이메일로_걸러서_반환한다() {
+            // given
+            given(userEmailPrefixIndex.search("al", null, 20)).willReturn(Optional.of(matches(3L, 4L, 5L)));
+            given(userCache.getAll(List.of(3L, 4L, 5L))).willReturn(Map.of(
+                    3L, new UserSummary(3L, "Al@example.com", UserRole.USER),
+                    4L, new UserSummary(4L, "bob@example.com", UserRole.USER)
+            ));
+
+            // when
+            List<UserResponse> result = userService.searchByEmailPrefix(" AL", 10);
+
+            // then
+            assertEquals(List.of(3L), result.stream().map(UserResponse::getId).toList());
+            then(userRepository).shouldHaveNoInteractions();
+            then(userEmailPrefixIndex).should().remove(5L);
+        }
+
+        @Test
+        void 걸러진_만큼_다음_구간을_더_읽어_size를_채운다() {
+            // given
+            given(userEmailPrefixIndex.search("al", null, 4)).willReturn(Optional.of(matches(1L, 2L, 3L, 4L)));
+            given(userEmailPrefixIndex.search("al", "key4", 4)).willReturn(Optional.of(matches(5L, 6L)));
+            given(userCache.getAll(List.of(1L, 2L, 3L, 4L))).willReturn(Map.of(
+                    1L, new UserSummary(1L, "al@example.com", UserRole.USER),
+                    3L, new UserSummary(3L, "bob@example.com", UserRole.USER)
+            ));
+            given(userCache.getAll(List.of(5L, 6L))).willReturn(Map.of(
+                    6L, new UserSummary(6L, "alma@example.com", UserRole.USER)
+            ));
+
+            // when
+            List<UserResponse> result = userService.searchByEmailPrefix("al", 2);
+
+            // then
+            assertEquals(List.of(1L, 6L), result.stream().map(UserResponse::getId).toList());
+        }
+
+        @Test
+        void 인덱스가_준비되지_않으면_DB_범위_조회로_대신한다() {
+            // given
+            given(userEmailPrefixIndex.search("a_b", null, 10)).willReturn(Optional.empty());
+            given(userRepository.findSummariesByNormalizedEmailLike("a!_b%", Limit.of(5)))
+                    .willReturn(List.of(new UserSummary(7L, "A_b@example.com", UserRole.USER)));
+
+            // when
+            List<UserResponse> result = userService.searchByEmailPrefix("a_b", 5);
+
+            // then
+            assertEquals(1, result.size());
+            assertEquals("A_b@example.com", result.get(0).getEmail());
+        }
+
+        private List<UserEmailPrefixIndex.Match> matches(long... userIds) {
+            return LongStream.of(userIds).mapToObj(id -> new UserEmailPrefixIndex.Match("key" + id, id)).toList();
+        }
+    }
+
     @Nested
     @DisplayName("비밀번호 변경 테스트")
     class ChangePasswordTest{
@@ -95,12 +211,16 @@ class UserServiceTest {
             given(passwordEncoder.matches(newPassword, encodedOldPassword)).willReturn(false);
             given(passwordEncoder.matches(oldPassword, encodedOldPassword)).willReturn(true);
             given(passwordEncoder.encode(newPassword)).willReturn(newEncodedPassword);
+            given(userRepository.findSecurityVersionById(1L)).willReturn(1L);
 
             // when
             userService.changePassword(1L, request);
 
             // then
             then(userRepository).should().findById(1L);
+            then(userRepository).should().bumpSecurityVersion(eq(1L), any(LocalDateTime.class));
+            then(userCache).should().invalidate(1L);
+            then(securityVersionRegistry).should().advance(1L, 1L);
             then(passwordEncoder).should().matches(newPassword, encodedOldPassword);
             then(passwordEncoder).should().matches(oldPassword, encodedOldPassword);
             then(passwordEncoder).should().encode(newPassword);
@@ -0,0 +1,64 @@
+package org.example.expert.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void 기록이_없으면_0을_반환한다() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0L, histogram.getTotalCount());
+        assertEquals(0L, histogram.valueAtQuantile(0.99));
+    }
+
+    @Test
+    void 분위수를_구간_오차_안에서_계산한다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        // when & then
+        assertEquals(10_000L, histogram.getTotalCount());
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(5_000), histogram.valueAtQuantile(0.5));
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(9_900), histogram.valueAtQuantile(0.99));
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(9_990), histogram.valueAtQuantile(0.999));
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(10_000), histogram.getMaxNanos());
+    }
+
+    @Test
+    void 추적_한도를_넘는_값도_최댓값에는_반영한다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        long veryLong = TimeUnit.HOURS.toNanos(1);
+
+        // when
+        histogram.record(veryLong);
+
+        // then
+        assertEquals(veryLong, histogram.getMaxNanos());
+        assertEquals(veryLong, histogram.valueAtQuantile(1.0));
+    }
+
+    @Test
+    void 구간_번호와_구간_상한이_일치한다() {
+        for (long value : new long[]{0L, 31L, 32L, 1_000L, 123_456_789L, TimeUnit.MINUTES.toNanos(10)}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(LatencyHistogram.highestValueAt(index) >= value);
+            assertEquals(index, LatencyHistogram.indexOf(LatencyHistogram.highestValueAt(index)));
+        }
+    }
+
+    private void assertWithin(long expected, long actual) {
+        // 하위 구간 32개 → 상대 오차 1/32 이내
+        assertTrue(actual >= expected && actual <= expected + expected / 32,
+                () -> "expected ~" + expected + " but was " + actual);
+    }
+}
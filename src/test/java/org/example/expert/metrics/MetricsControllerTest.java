@@ -0,0 +1,34 @@
+package org.example.expert.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MetricsController.class)
+class MetricsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void 라우트_템플릿과_상태_코드별로_처리_시간을_조회한다() throws Exception {
+        // given: 첫 요청이 끝나면 인터셉터가 기록한다
+        mockMvc.perform(get("/admin/metrics/latency"))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/admin/metrics/latency"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].method").value("GET"))
+                .andExpect(jsonPath("$[0].route").value("/admin/metrics/latency"))
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[0].count").value(1));
+    }
+}